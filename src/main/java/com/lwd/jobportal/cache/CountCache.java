@@ -0,0 +1,119 @@
+package com.lwd.jobportal.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.event.JobSeekerChangedEvent;
+import com.lwd.jobportal.search.SearchTokenizer;
+
+/**
+ * Caches COUNT(*) results of paged searches, keyed by namespace + the
+ * normalized filter set, so page 2+ of the same search never recounts.
+ *
+ * Entries expire after a TTL and a whole namespace is dropped as soon as a
+ * job (or job seeker profile) changes. Invalidation bumps a generation
+ * number, so a count that was running while data changed is never served.
+ */
+@Component
+public class CountCache {
+
+    public static final String JOBS = "jobs";
+    public static final String JOB_SEEKERS = "jobSeekers";
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlNanos;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public CountCache(@Value("${lwd.count-cache.ttl-seconds:120}") long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public long get(String namespace, String key, LongSupplier counter) {
+
+        long generation = generation(namespace).get();
+        String cacheKey = namespace + ':' + key;
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(cacheKey);
+        if (entry != null && entry.generation == generation && entry.expiresAt - now > 0) {
+            return entry.count;
+        }
+
+        long count = counter.getAsLong();
+
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(e -> e.expiresAt - now <= 0);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(cacheKey, new Entry(count, generation, now + ttlNanos));
+
+        return count;
+    }
+
+    public void invalidate(String namespace) {
+        generation(namespace).incrementAndGet();
+        entries.keySet().removeIf(k -> k.startsWith(namespace + ':'));
+    }
+
+    // Builds a stable key: strings are trimmed + lower-cased, collections sorted
+    public static String key(Object... parts) {
+
+        StringJoiner joiner = new StringJoiner("|");
+
+        for (Object part : parts) {
+            if (part == null) {
+                joiner.add("");
+            } else if (part instanceof String text) {
+                joiner.add(SearchTokenizer.normalize(text));
+            } else if (part instanceof Collection<?> values) {
+                joiner.add(
+                        values.stream()
+                                .map(v -> SearchTokenizer.normalize(String.valueOf(v)))
+                                .sorted()
+                                .distinct()
+                                .reduce((a, b) -> a + "," + b)
+                                .orElse("")
+                );
+            } else {
+                joiner.add(part.toString());
+            }
+        }
+        return joiner.toString();
+    }
+
+
+    // ================= INVALIDATION =================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.wasSearchable() || event.isSearchable()) {
+            invalidate(JOBS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSeekerChanged(JobSeekerChangedEvent event) {
+        invalidate(JOB_SEEKERS);
+    }
+
+
+    private AtomicLong generation(String namespace) {
+        return generations.computeIfAbsent(namespace, n -> new AtomicLong());
+    }
+
+    private record Entry(long count, long generation, long expiresAt) {}
+}
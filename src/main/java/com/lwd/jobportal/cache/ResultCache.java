@@ -0,0 +1,222 @@
+package com.lwd.jobportal.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.dto.admin.CacheStatsDTO;
+import com.lwd.jobportal.dto.jobdto.JobCard;
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.search.JobDocument;
+import com.lwd.jobportal.search.SearchTokenizer;
+
+/**
+ * Caches the anonymous landing-page responses of JobService:
+ * first feed pages, top industries, trending jobs and industry pages.
+ *
+ * Bounded by entry count (least recently used entries go first) and TTL.
+ * Job changes only drop the regions / keys they can affect, see
+ * {@link #onJobChanged(JobChangedEvent)}. Like {@link CountCache}, each
+ * region has a generation so a value loaded while it was invalidated is
+ * never stored.
+ */
+@Component
+public class ResultCache {
+
+    public static final String FEED = "feed";
+    public static final String TOP_INDUSTRIES = "topIndustries";
+    public static final String TRENDING = "trending";
+    public static final String INDUSTRY = "industry";
+
+    private static final List<String> REGIONS = List.of(FEED, TOP_INDUSTRIES, TRENDING, INDUSTRY);
+
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    public ResultCache(
+            @Value("${lwd.result-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${lwd.result-cache.max-entries:2000}") int maxEntries
+    ) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        REGIONS.forEach(name -> regions.put(name, new Region()));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String region, String key, Supplier<T> loader) {
+
+        Region stats = regions.get(region);
+        Key cacheKey = new Key(region, key);
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(cacheKey);
+        if (entry != null) {
+            if (entry.expiresAt - now > 0) {
+                entry.lastAccess = now;
+                stats.hits.increment();
+                return (T) entry.value;
+            }
+            if (entries.remove(cacheKey, entry)) {
+                stats.expirations.increment();
+            }
+        }
+
+        stats.misses.increment();
+
+        long generation = stats.generation.get();
+        T value = loader.get();
+
+        if (stats.generation.get() == generation) {
+            entries.put(cacheKey, new Entry(value, now + ttlNanos, now));
+            evictIfFull();
+        }
+        return value;
+    }
+
+    public void invalidate(String region) {
+        invalidate(region, key -> true);
+    }
+
+    public void invalidate(String region, Predicate<String> keys) {
+
+        Region stats = regions.get(region);
+        stats.generation.incrementAndGet();
+        stats.invalidations.increment();
+
+        entries.keySet().removeIf(k -> k.region.equals(region) && keys.test(k.key));
+    }
+
+    public List<CacheStatsDTO> stats() {
+
+        List<CacheStatsDTO> result = new ArrayList<>();
+
+        for (String name : REGIONS) {
+            Region region = regions.get(name);
+            result.add(CacheStatsDTO.builder()
+                    .region(name)
+                    .size((int) entries.keySet().stream().filter(k -> k.region.equals(name)).count())
+                    .hits(region.hits.sum())
+                    .misses(region.misses.sum())
+                    .evictions(region.evictions.sum())
+                    .expirations(region.expirations.sum())
+                    .invalidations(region.invalidations.sum())
+                    .build());
+        }
+        return result;
+    }
+
+    // Industry keys start with the normalized industry
+    public static String industryKey(String industry, Object... rest) {
+        Object[] parts = new Object[rest.length + 1];
+        parts[0] = industry;
+        System.arraycopy(rest, 0, parts, 1, rest.length);
+        return CountCache.key(parts);
+    }
+
+
+    // ================= INVALIDATION =================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+
+        if (!event.wasSearchable() && !event.isSearchable()) {
+            return;
+        }
+
+        JobDocument before = event.wasSearchable() ? event.getBefore() : null;
+        JobDocument after = event.isSearchable() ? event.getAfter() : null;
+
+        boolean membershipChanged = (before == null) != (after == null);
+
+        // Any visible change can reorder / refresh the first feed pages
+        invalidate(FEED);
+
+        // Only the industries the job left or joined
+        for (JobDocument doc : new JobDocument[] {before, after}) {
+            if (doc != null && doc.getIndustry() != null) {
+                String prefix = SearchTokenizer.normalize(doc.getIndustry()) + "|";
+                invalidate(INDUSTRY, key -> key.startsWith(prefix));
+            }
+        }
+
+        String industryBefore = before != null ? SearchTokenizer.normalize(before.getIndustry()) : null;
+        String industryAfter = after != null ? SearchTokenizer.normalize(after.getIndustry()) : null;
+
+        if (membershipChanged || !Objects.equals(industryBefore, industryAfter)) {
+            invalidate(TOP_INDUSTRIES);
+        }
+
+        if (membershipChanged || trendingContains(event.getJobId())) {
+            invalidate(TRENDING);
+        }
+    }
+
+    private boolean trendingContains(Long jobId) {
+        return entries.entrySet().stream()
+                .filter(e -> e.getKey().region.equals(TRENDING))
+                .map(e -> e.getValue().value)
+                .filter(List.class::isInstance)
+                .flatMap(value -> ((List<?>) value).stream())
+                .anyMatch(card -> card instanceof JobCard jobCard && jobId.equals(jobCard.getId()));
+    }
+
+
+    // Over the limit: drop the least recently used tenth in one go
+    private void evictIfFull() {
+
+        int overflow = entries.size() - maxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .limit(Math.max(overflow, maxEntries / 10))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(key -> {
+                    if (entries.remove(key) != null) {
+                        regions.get(key.region).evictions.increment();
+                    }
+                });
+    }
+
+
+    private record Key(String region, String key) {}
+
+    private static final class Entry {
+
+        final Object value;
+        final long expiresAt;
+        volatile long lastAccess;
+
+        Entry(Object value, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final class Region {
+        final AtomicLong generation = new AtomicLong();
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+        final LongAdder expirations = new LongAdder();
+        final LongAdder invalidations = new LongAdder();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +17,7 @@ import com.lwd.jobportal.dto.admin.UserAdminDTO;
 import com.lwd.jobportal.dto.comman.PagedResponse;
 import com.lwd.jobportal.dto.recruiteradmindto.RecruiterResponse;
 import com.lwd.jobportal.service.AdminService;
+import com.lwd.jobportal.service.ApplicationFunnelService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminController {
 
     private final AdminService adminService;
+    private final ApplicationFunnelService applicationFunnelService;
 
     // ================= USERS =================
     @GetMapping("/users")
@@ -101,4 +104,13 @@ public class AdminController {
         adminService.closeJob(id);
         return ResponseEntity.ok("Job closed");
     }
+
+
+    // ================= FUNNEL COUNTERS =================
+    // Recompute every funnel counter from the application status log
+    @PostMapping("/funnel/rebuild")
+    public ResponseEntity<String> rebuildFunnelCounters() {
+        applicationFunnelService.rebuild();
+        return ResponseEntity.ok("Funnel counters rebuilt");
+    }
 }
@@ -1,12 +1,17 @@
 package com.lwd.jobportal.controller;
 
+import java.nio.charset.StandardCharsets;
+
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.lwd.jobportal.dto.jobapplicationdto.*;
 import com.lwd.jobportal.enums.ApplicationStatus;
@@ -32,7 +37,13 @@ public class JobApplicationController {
             Authentication authentication
     ) {
         Long jobSeekerId = SecurityUtils.getUserId();
-        jobApplicationService.applyForJob(request, jobSeekerId);
+        boolean queued = jobApplicationService.applyForJob(request, jobSeekerId);
+
+        // burst mode: accepted now, written by the batch writer within seconds
+        if (queued) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body("Job application received");
+        }
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body("Job application submitted successfully");
     }
@@ -55,7 +66,25 @@ public class JobApplicationController {
                 )
         );
     }
-    
+
+
+    // Same scope as /my-applications, every row as CSV (streamed, not paged)
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN','RECRUITER')")
+    @GetMapping("/my-applications/export")
+    public ResponseEntity<StreamingResponseBody> exportApplicationsByRole() {
+
+        // resolved here: the body is written on another thread
+        Long userId = SecurityUtils.getUserId();
+        Role role = SecurityUtils.getRole();
+
+        StreamingResponseBody body = out -> jobApplicationService.exportApplicationsByRole(userId, role, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"applications.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
 
 
     // ================= ADMIN ENDPOINTS =================
@@ -88,6 +117,22 @@ public class JobApplicationController {
     }
     
     
+    // ================= CHANGE STATUS (BULK) =================
+    // Up to 500 applications to one status; per-id outcome in the response
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN','RECRUITER')")
+    @PutMapping("/status")
+    public ResponseEntity<BulkApplicationStatusResponse> changeApplicationStatuses(
+            @Valid @RequestBody BulkApplicationStatusRequest request
+    ) {
+
+        Long userId = SecurityUtils.getUserId();
+        Role role = SecurityUtils.getRole();
+
+        return ResponseEntity.ok(jobApplicationService.changeApplicationStatuses(
+                request.getApplicationIds(), request.getStatus(), userId, role));
+    }
+    
+    
     // ================= JOB SEEKER ENDPOINTS =================
     @PreAuthorize("hasRole('JOB_SEEKER')")
     @GetMapping("/my")
@@ -10,12 +10,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.lwd.jobportal.dto.comman.PagedResponse;
 import com.lwd.jobportal.dto.jobdto.CreateJobRequest;
+import com.lwd.jobportal.dto.jobdto.CursorJobResponse;
+import com.lwd.jobportal.dto.jobdto.JobCard;
+import com.lwd.jobportal.dto.jobdto.JobFacetsResponse;
 import com.lwd.jobportal.dto.jobdto.JobResponse;
+import com.lwd.jobportal.dto.jobdto.JobSkillMatchResponse;
+import com.lwd.jobportal.dto.jobseekerdto.CandidateSkillMatchResponse;
 import com.lwd.jobportal.dto.jobdto.PagedJobResponse;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.JobType;
 import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.search.JobSearchQuery;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.service.JobService;
 
@@ -124,7 +131,7 @@ public class JobController {
     // GET JOBS BY COMPANY (PUBLIC)
     // ==================================================
     @GetMapping("/company/{companyId}")
-    public ResponseEntity<PagedJobResponse> getJobsByCompany(
+    public ResponseEntity<PagedResponse<JobCard>> getJobsByCompany(
             @PathVariable Long companyId,
             @RequestParam(defaultValue = "12") int page
     ) {
@@ -137,12 +144,13 @@ public class JobController {
 	 // GET ALL JOBS (PUBLIC)
 	 // ==================================================
 	 @GetMapping
-	 public ResponseEntity<PagedJobResponse> getAllJobs(
+	 public ResponseEntity<PagedResponse<JobCard>> getAllJobs(
 	         @RequestParam(defaultValue = "0") int page,
-	         @RequestParam(defaultValue = "12") int size
+	         @RequestParam(defaultValue = "12") int size,
+	         @RequestParam(defaultValue = "true") boolean includeTotal
 	 ) {
 	     return ResponseEntity.ok(
-	             jobService.getAllJobs(page, size)
+	             jobService.getAllJobs(page, size, includeTotal)
 	     );
 	 }
 
@@ -164,18 +172,19 @@ public class JobController {
     // GET JOBS BY INDUSTRY (PUBLIC)
     // ==================================================
     @GetMapping("/industry")
-    public ResponseEntity<PagedJobResponse> getJobsByIndustry(
+    public ResponseEntity<PagedResponse<JobCard>> getJobsByIndustry(
             @RequestParam String industry,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal
     ) {
-        return ResponseEntity.ok(jobService.getJobsByIndustry(industry, page, size));
+        return ResponseEntity.ok(jobService.getJobsByIndustry(industry, page, size, includeTotal));
     }
 
 
 
     @GetMapping("/search")
-    public ResponseEntity<PagedJobResponse> searchJobs(
+    public ResponseEntity<PagedResponse<JobCard>> searchJobs(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String industry,
@@ -190,24 +199,90 @@ public class JobController {
             @RequestParam(required = false) Boolean lwdPreferred,
 
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal
     ) {
+        JobSearchQuery query = toSearchQuery(
+                keyword, location, industry, companyName, minExp, maxExp, jobType,
+                noticePreference, maxNoticePeriod, lwdPreferred
+        );
+
         return ResponseEntity.ok(
-                jobService.searchPublicJobs(
-                        keyword,
-                        location,
-                        industry,
-                        companyName,
-                        minExp,
-                        maxExp,
-                        jobType,
-                        noticePreference,
-                        maxNoticePeriod,
-                        lwdPreferred,
-                        page,
-                        size
-                )
+                jobService.searchPublicJobs(query, page, size, includeTotal)
+        );
+    }
+
+    
+    // ==================================================
+    // CURSOR FEEDS (INFINITE SCROLL, PUBLIC)
+    // ==================================================
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorJobResponse> scrollAllJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        return ResponseEntity.ok(jobService.scrollAllJobs(cursor, size));
+    }
+
+
+    @GetMapping("/industry/scroll")
+    public ResponseEntity<CursorJobResponse> scrollJobsByIndustry(
+            @RequestParam String industry,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        return ResponseEntity.ok(jobService.scrollJobsByIndustry(industry, cursor, size));
+    }
+
+
+    @GetMapping("/search/scroll")
+    public ResponseEntity<CursorJobResponse> scrollSearchJobs(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) Integer minExp,
+            @RequestParam(required = false) Integer maxExp,
+            @RequestParam(required = false) JobType jobType,
+
+            // ===== LWD FILTERS =====
+            @RequestParam(required = false) NoticeStatus noticePreference,
+            @RequestParam(required = false) Integer maxNoticePeriod,
+            @RequestParam(required = false) Boolean lwdPreferred,
+
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        JobSearchQuery query = toSearchQuery(
+                keyword, location, industry, companyName, minExp, maxExp, jobType,
+                noticePreference, maxNoticePeriod, lwdPreferred
+        );
+
+        return ResponseEntity.ok(jobService.scrollSearchJobs(query, cursor, size));
+    }
+
+
+    @GetMapping("/search/facets")
+    public ResponseEntity<JobFacetsResponse> getSearchFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) Integer minExp,
+            @RequestParam(required = false) Integer maxExp,
+            @RequestParam(required = false) JobType jobType,
+
+            // ===== LWD FILTERS =====
+            @RequestParam(required = false) NoticeStatus noticePreference,
+            @RequestParam(required = false) Integer maxNoticePeriod,
+            @RequestParam(required = false) Boolean lwdPreferred
+    ) {
+        JobSearchQuery query = toSearchQuery(
+                keyword, location, industry, companyName, minExp, maxExp, jobType,
+                noticePreference, maxNoticePeriod, lwdPreferred
         );
+
+        return ResponseEntity.ok(jobService.getSearchFacets(query));
     }
 
     
@@ -223,18 +298,46 @@ public class JobController {
     
     
     @GetMapping("/suggested")
-    public ResponseEntity<PagedJobResponse> getSuggestedJobs(
+    public ResponseEntity<PagedResponse<JobCard>> getSuggestedJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
         Long userId = SecurityUtils.getUserId();
-        PagedJobResponse response = jobService.getSuggestedJobs(userId, page, size);
+        PagedResponse<JobCard> response = jobService.getSuggestedJobs(userId, page, size);
         return ResponseEntity.ok(response);
     }
 
     
+    // ==================================================
+    // SKILL MATCHING
+    // ==================================================
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN','RECRUITER')")
+    @GetMapping("/{jobId}/matching-candidates")
+    public ResponseEntity<PagedResponse<CandidateSkillMatchResponse>> getMatchingCandidates(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                jobService.getMatchingCandidates(jobId, page, size)
+        );
+    }
+
+    @PreAuthorize("hasRole('JOB_SEEKER')")
+    @GetMapping("/skill-matches")
+    public ResponseEntity<PagedResponse<JobSkillMatchResponse>> getSkillMatchedJobs(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Long userId = SecurityUtils.getUserId();
+        return ResponseEntity.ok(
+                jobService.getSkillMatchedJobs(userId, page, size)
+        );
+    }
+
+    
     @GetMapping("/{jobId}/similar")
-    public ResponseEntity<List<JobResponse>> getSimilarJobs(
+    public ResponseEntity<List<JobCard>> getSimilarJobs(
             @PathVariable Long jobId
     ) {
         return ResponseEntity.ok(
@@ -244,14 +347,37 @@ public class JobController {
 
     
     @GetMapping("/trending")
-    public ResponseEntity<List<JobResponse>> getTrendingJobs() {
+    public ResponseEntity<List<JobCard>> getTrendingJobs() {
         return ResponseEntity.ok(
                 jobService.getTrendingJobs()
         );
     }
 
 
-
-
+    private JobSearchQuery toSearchQuery(
+            String keyword,
+            String location,
+            String industry,
+            String companyName,
+            Integer minExp,
+            Integer maxExp,
+            JobType jobType,
+            NoticeStatus noticePreference,
+            Integer maxNoticePeriod,
+            Boolean lwdPreferred
+    ) {
+        return JobSearchQuery.builder()
+                .keyword(keyword)
+                .location(location)
+                .industry(industry)
+                .companyName(companyName)
+                .minExp(minExp)
+                .maxExp(maxExp)
+                .jobType(jobType)
+                .noticePreference(noticePreference)
+                .maxNoticePeriod(maxNoticePeriod)
+                .lwdPreferred(lwdPreferred)
+                .build();
+    }
 
 }
@@ -8,14 +8,21 @@ import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchResponse;
 import com.lwd.jobportal.dto.jobseekerdto.SkillResponseDTO;
 import com.lwd.jobportal.dto.jobseekerdto.UpdateSkillsRequest;
 import com.lwd.jobportal.service.JobSeekerService;
+import com.lwd.jobportal.service.SkillService;
 
 import lombok.RequiredArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Set;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @RestController
@@ -24,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class JobSeekerController {
 
     private final JobSeekerService jobSeekerService;
+    private final SkillService skillService;
 
     // =========================================
     // JOB SEEKER ENDPOINTS (Self Profile)
@@ -68,7 +76,7 @@ public class JobSeekerController {
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size
     ) {
-        return jobSeekerService.getAllSkills(keyword, page, size);
+        return skillService.getAllSkills(keyword, page, size);
     }
 
     
@@ -90,4 +98,41 @@ public class JobSeekerController {
         return ResponseEntity.ok(response);
     }
 
+    // Same filters as /search, every match as CSV (streamed, not paged)
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER','RECRUITER_ADMIN')")
+    @PostMapping("/search/export")
+    public ResponseEntity<StreamingResponseBody> exportJobSeekers(
+            @RequestBody JobSeekerSearchRequest request
+    ) {
+        StreamingResponseBody body = out -> jobSeekerService.exportJobSeekers(request, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"candidates.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    // Candidates able to join within `days` (immediate joiners first)
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER','RECRUITER_ADMIN')")
+    @GetMapping("/available")
+    public ResponseEntity<PagedResponse<JobSeekerSearchResponse>> getAvailableWithin(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(jobSeekerService.getAvailableWithin(days, page, size));
+    }
+
+    // Candidates whose last working day falls in [from, to]
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER','RECRUITER_ADMIN')")
+    @GetMapping("/last-working-day")
+    public ResponseEntity<PagedResponse<JobSeekerSearchResponse>> getByLastWorkingDay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(jobSeekerService.getByLastWorkingDay(from, to, page, size));
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.lwd.jobportal.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lwd.jobportal.cache.ResultCache;
+import com.lwd.jobportal.dto.admin.ApplicationIngestStatsDTO;
+import com.lwd.jobportal.dto.admin.CacheStatsDTO;
+import com.lwd.jobportal.dto.admin.JobAlertStatsDTO;
+import com.lwd.jobportal.dto.admin.ViewCounterStatsDTO;
+import com.lwd.jobportal.tracking.ApplicationIngestQueue;
+import com.lwd.jobportal.tracking.JobAlertQueue;
+import com.lwd.jobportal.tracking.JobViewCounter;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class MetricsController {
+
+    private final ResultCache resultCache;
+    private final JobViewCounter jobViewCounter;
+    private final JobAlertQueue jobAlertQueue;
+    private final ApplicationIngestQueue applicationIngestQueue;
+
+    // ================= RESULT CACHE =================
+    @GetMapping("/cache")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(resultCache.stats());
+    }
+
+
+    // ================= JOB VIEW COUNTER =================
+    @GetMapping("/views")
+    public ResponseEntity<ViewCounterStatsDTO> getViewCounterStats() {
+        return ResponseEntity.ok(jobViewCounter.stats());
+    }
+
+
+    // ================= JOB ALERTS =================
+    @GetMapping("/job-alerts")
+    public ResponseEntity<JobAlertStatsDTO> getJobAlertStats() {
+        return ResponseEntity.ok(jobAlertQueue.stats());
+    }
+
+
+    // ================= BUFFERED APPLICATIONS =================
+    @GetMapping("/applications-ingest")
+    public ResponseEntity<ApplicationIngestStatsDTO> getApplicationIngestStats() {
+        return ResponseEntity.ok(applicationIngestQueue.stats());
+    }
+}
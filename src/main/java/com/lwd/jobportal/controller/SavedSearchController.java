@@ -0,0 +1,68 @@
+package com.lwd.jobportal.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.lwd.jobportal.dto.comman.PagedResponse;
+import com.lwd.jobportal.dto.jobseekerdto.JobAlertResponse;
+import com.lwd.jobportal.dto.jobseekerdto.SavedSearchRequest;
+import com.lwd.jobportal.dto.jobseekerdto.SavedSearchResponse;
+import com.lwd.jobportal.service.SavedSearchService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/job-seekers/saved-searches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('JOB_SEEKER')")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    // ================= SAVED SEARCHES =================
+    @PostMapping
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(
+            @Valid @RequestBody SavedSearchRequest request
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(savedSearchService.createSavedSearch(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponse>> getMySavedSearches() {
+        return ResponseEntity.ok(savedSearchService.getMySavedSearches());
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long savedSearchId) {
+        savedSearchService.deleteSavedSearch(savedSearchId);
+        return ResponseEntity.noContent().build();
+    }
+
+
+    // ================= JOB ALERTS =================
+    @GetMapping("/alerts")
+    public ResponseEntity<PagedResponse<JobAlertResponse>> getMyAlerts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(savedSearchService.getMyAlerts(page, size));
+    }
+
+    @GetMapping("/alerts/unseen-count")
+    public ResponseEntity<Long> countUnseenAlerts() {
+        return ResponseEntity.ok(savedSearchService.countUnseenAlerts());
+    }
+
+    @PostMapping("/alerts/seen")
+    public ResponseEntity<Void> markAlertsSeen() {
+        savedSearchService.markAlertsSeen();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.lwd.jobportal.dto.admin;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ApplicationIngestStatsDTO {
+    private boolean enabled;
+    private int capacity;
+    private int queueDepth;               // acknowledged, waiting for the writer
+    private int retrying;                 // from failed flushes / replayed log segments
+    private long acceptedApplications;
+    private long writtenApplications;
+    private long rejectedApplications;    // answered 429 (queue full)
+    private long deadLetteredApplications; // refused by the database, kept in dead-letter.log
+    private long failedFlushes;
+    private LocalDateTime lastFlushAt;
+    private long lastFlushMillis;
+}
@@ -0,0 +1,18 @@
+package com.lwd.jobportal.dto.admin;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheStatsDTO {
+    private String region;
+    private int size;
+    private long hits;
+    private long misses;
+    private long evictions;      // dropped to stay under max entries
+    private long expirations;    // dropped after the TTL
+    private long invalidations;
+}
@@ -0,0 +1,21 @@
+package com.lwd.jobportal.dto.admin;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class JobAlertStatsDTO {
+    private int savedSearches;
+    private long percolatedJobs;
+    private int pendingAlerts;
+    private long writtenAlerts;
+    private long droppedAlerts;
+    private long failedFlushes;
+    private LocalDateTime lastFlushAt;
+    private long lastPercolateMicros;   // time to match the last job against all saved searches
+}
@@ -0,0 +1,21 @@
+package com.lwd.jobportal.dto.admin;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ViewCounterStatsDTO {
+    private int pendingJobs;
+    private long pendingViews;
+    private long flushedViews;
+    private long droppedViews;
+    private long failedFlushes;
+    private LocalDateTime lastFlushAt;
+    private long lastFlushMillis;
+    private long flushLagMillis;     // age of the oldest view not yet written
+}
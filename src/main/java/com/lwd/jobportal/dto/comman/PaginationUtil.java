@@ -1,10 +1,17 @@
 package com.lwd.jobportal.dto.comman;
 
 import java.util.List;
+import java.util.function.LongSupplier;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 public final class PaginationUtil {
 
+    // totalElements / totalPages value when the client opted out of counting
+    public static final int UNKNOWN_TOTAL = -1;
+
     private PaginationUtil() {}
 
     public static <T, R> PagedResponse<R> buildPagedResponse(
@@ -20,4 +27,37 @@ public final class PaginationUtil {
                 page.isLast()
         );
     }
+
+    /**
+     * Builds a response from a slice (size + 1 rows fetched).
+     * The total is only asked for when it cannot be derived from the slice
+     * itself, and not at all when {@code includeTotal} is false.
+     */
+    public static <T, R> PagedResponse<R> buildPagedResponse(
+            Slice<T> slice,
+            List<R> content,
+            LongSupplier totalCounter,
+            boolean includeTotal
+    ) {
+        if (!includeTotal) {
+            return new PagedResponse<>(
+                    content,
+                    slice.getNumber(),
+                    slice.getSize(),
+                    UNKNOWN_TOTAL,
+                    UNKNOWN_TOTAL,
+                    !slice.hasNext()
+            );
+        }
+
+        return buildPagedResponse(toPage(slice, totalCounter), content);
+    }
+
+    public static <T> Page<T> toPage(Slice<T> slice, LongSupplier totalCounter) {
+        return PageableExecutionUtils.getPage(
+                slice.getContent(),
+                slice.getPageable(),
+                totalCounter
+        );
+    }
 }
@@ -0,0 +1,21 @@
+package com.lwd.jobportal.dto.jobapplicationdto;
+
+import java.util.List;
+
+import com.lwd.jobportal.enums.ApplicationStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class BulkApplicationStatusRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Long> applicationIds;
+
+    @NotNull
+    private ApplicationStatus status;
+}
@@ -0,0 +1,38 @@
+package com.lwd.jobportal.dto.jobapplicationdto;
+
+import java.util.List;
+
+import com.lwd.jobportal.enums.ApplicationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkApplicationStatusResponse {
+
+    private ApplicationStatus status;
+
+    private int updated;
+    private int unchanged;
+    private int notFound;
+
+    // one per requested id, in request order
+    private List<Result> results;
+
+    @Data
+    @AllArgsConstructor
+    public static class Result {
+
+        public enum Outcome {
+            UPDATED,      // moved to the target status
+            UNCHANGED,    // already had the target status
+            NOT_FOUND     // missing, or outside the caller's jobs / company
+        }
+
+        private Long applicationId;
+        private Outcome outcome;
+        private ApplicationStatus previousStatus;
+    }
+}
@@ -1,5 +1,7 @@
 package com.lwd.jobportal.dto.jobdto;
 
+import java.util.List;
+
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import com.lwd.jobportal.enums.JobType;
@@ -23,4 +25,8 @@ public class CreateJobRequest {
     private NoticeStatus noticePreference;   // SERVING_NOTICE, IMMEDIATE_JOINER, etc.
     private Integer maxNoticePeriod;         // in days
     private Boolean lwdPreferred;            // true/false
+
+    // ================= SKILLS =================
+    private List<String> requiredSkills;     // null = keep current (update)
+    private List<String> niceToHaveSkills;
 }
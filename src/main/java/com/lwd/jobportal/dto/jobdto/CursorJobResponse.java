@@ -0,0 +1,14 @@
+package com.lwd.jobportal.dto.jobdto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CursorJobResponse {
+    private List<JobCard> content;
+    private String nextCursor;     // null when there is nothing more
+    private boolean hasNext;
+}
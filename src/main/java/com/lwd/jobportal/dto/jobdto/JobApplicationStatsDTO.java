@@ -0,0 +1,38 @@
+package com.lwd.jobportal.dto.jobdto;
+
+import com.lwd.jobportal.entity.JobApplicationStats;
+
+import lombok.*;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class JobApplicationStatsDTO {
+
+    private long total;
+    private long applied;
+    private long shortlisted;
+    private long interview;
+    private long rejected;
+    private long selected;
+    private long hired;
+    private long onHold;
+
+    // null stats row = no applications yet
+    public static JobApplicationStatsDTO from(JobApplicationStats stats) {
+        if (stats == null) {
+            return new JobApplicationStatsDTO();
+        }
+        return JobApplicationStatsDTO.builder()
+                .total(stats.getTotal())
+                .applied(stats.getApplied())
+                .shortlisted(stats.getShortlisted())
+                .interview(stats.getInterview())
+                .rejected(stats.getRejected())
+                .selected(stats.getSelected())
+                .hired(stats.getHired())
+                .onHold(stats.getOnHold())
+                .build();
+    }
+}
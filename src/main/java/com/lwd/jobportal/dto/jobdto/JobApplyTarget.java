@@ -0,0 +1,9 @@
+package com.lwd.jobportal.dto.jobdto;
+
+import com.lwd.jobportal.enums.JobStatus;
+
+// What the apply path needs to know about a job
+public interface JobApplyTarget {
+    JobStatus getStatus();
+    Long getCompanyId();
+}
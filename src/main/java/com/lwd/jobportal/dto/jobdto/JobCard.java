@@ -0,0 +1,71 @@
+package com.lwd.jobportal.dto.jobdto;
+
+import java.time.LocalDateTime;
+
+import com.lwd.jobportal.dto.companydto.CompanySummaryDTO;
+import com.lwd.jobportal.enums.JobStatus;
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.Data;
+
+/**
+ * Listing view of a job (feeds, search, industry, company, trending).
+ * Selected straight from JPQL: no description, no createdBy user.
+ * The full job is served by GET /api/jobs/{jobId}.
+ */
+@Data
+public class JobCard {
+
+    private Long id;
+    private String title;
+    private String location;
+    private Double salary;
+    private JobStatus status;
+    private String industry;
+    private Integer minExperience;
+    private Integer maxExperience;
+    private JobType jobType;
+    private LocalDateTime createdAt;
+
+    private NoticeStatus noticePreference;
+    private Integer maxNoticePeriod;
+    private Boolean lwdPreferred;
+
+    private CompanySummaryDTO company;
+
+    // Used by "SELECT new com.lwd.jobportal.dto.jobdto.JobCard(...)"
+    public JobCard(
+            Long id,
+            String title,
+            String location,
+            Double salary,
+            JobStatus status,
+            String industry,
+            Integer minExperience,
+            Integer maxExperience,
+            JobType jobType,
+            LocalDateTime createdAt,
+            NoticeStatus noticePreference,
+            Integer maxNoticePeriod,
+            Boolean lwdPreferred,
+            Long companyId,
+            String companyName,
+            String companyLogo
+    ) {
+        this.id = id;
+        this.title = title;
+        this.location = location;
+        this.salary = salary;
+        this.status = status;
+        this.industry = industry;
+        this.minExperience = minExperience;
+        this.maxExperience = maxExperience;
+        this.jobType = jobType;
+        this.createdAt = createdAt;
+        this.noticePreference = noticePreference;
+        this.maxNoticePeriod = maxNoticePeriod;
+        this.lwdPreferred = lwdPreferred;
+        this.company = new CompanySummaryDTO(companyId, companyName, companyLogo);
+    }
+}
@@ -0,0 +1,27 @@
+package com.lwd.jobportal.dto.jobdto;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Facet counts for /api/jobs/search.
+ * Each facet is counted with every filter applied except its own,
+ * so the UI can show "what if I pick another value" numbers.
+ */
+@Data
+@Builder
+public class JobFacetsResponse {
+
+    private long totalElements;
+
+    private Map<String, Long> industry;
+    private Map<String, Long> jobType;
+    private Map<String, Long> location;
+    private Map<String, Long> experience;
+
+    // ===== LWD FACETS =====
+    private Map<String, Long> noticePreference;
+    private Map<String, Long> lwdPreferred;
+}
@@ -1,6 +1,7 @@
 package com.lwd.jobportal.dto.jobdto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.lwd.jobportal.dto.companydto.CompanySummaryDTO;
 
@@ -27,6 +28,8 @@ public class JobResponse {
     private Integer maxNoticePeriod;
     private Boolean lwdPreferred;
 
+    private List<String> requiredSkills;
+    private List<String> niceToHaveSkills;
     
     private CompanySummaryDTO company;
     
@@ -0,0 +1,19 @@
+package com.lwd.jobportal.dto.jobdto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A job ranked for a job seeker by the skills they share.
+ */
+@Data
+@Builder
+public class JobSkillMatchResponse {
+
+    private JobCard job;
+
+    private int matchedRequired;
+    private int totalRequired;
+    private int matchedNiceToHave;
+    private int totalNiceToHave;
+}
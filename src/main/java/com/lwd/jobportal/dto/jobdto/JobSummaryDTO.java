@@ -23,4 +23,7 @@ public class JobSummaryDTO {
 
     private JobStatus status;
     private LocalDateTime createdAt;
+
+    // recruiter job list only
+    private JobApplicationStatsDTO applications;
 }
@@ -0,0 +1,22 @@
+package com.lwd.jobportal.dto.jobseekerdto;
+
+import lombok.*;
+
+/**
+ * A candidate ranked for a job by the job's required / nice-to-have skills
+ * found in their profile.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CandidateSkillMatchResponse {
+
+    private JobSeekerSearchResponse candidate;
+
+    private int matchedRequired;
+    private int totalRequired;
+    private int matchedNiceToHave;
+    private int totalNiceToHave;
+}
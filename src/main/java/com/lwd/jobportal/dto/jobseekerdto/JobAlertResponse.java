@@ -0,0 +1,24 @@
+package com.lwd.jobportal.dto.jobseekerdto;
+
+import java.time.LocalDateTime;
+
+import com.lwd.jobportal.dto.jobdto.JobCard;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobAlertResponse {
+
+    private Long id;
+    private Long savedSearchId;
+    private String savedSearchName;   // null once the saved search is deleted
+
+    private JobCard job;              // null once the job is gone
+
+    private LocalDateTime createdAt;
+    private Boolean seen;
+}
@@ -43,7 +43,11 @@ public class JobSeekerSearchRequest {
     private Integer page = 0;
     private Integer size = 10;
 
-    // 🔽 Sorting
+    // false → "hasNext only": no COUNT query, totals come back as -1
+    @Builder.Default
+    private Boolean includeTotal = true;
+
+    // 🔽 Sorting ("relevance" = best match on skills, notice, availability, CTC, location)
     private String sortBy = "totalExperience";
     private String sortDirection = "DESC";
 }
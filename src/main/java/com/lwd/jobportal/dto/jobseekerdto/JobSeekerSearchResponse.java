@@ -1,7 +1,10 @@
 package com.lwd.jobportal.dto.jobseekerdto;
 
+import com.lwd.jobportal.enums.NoticeStatus;
+
 import lombok.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Getter
@@ -29,5 +32,11 @@ public class JobSeekerSearchResponse {
 
     private Integer noticePeriod;
 
+    private NoticeStatus noticeStatus;
+
+    private LocalDate lastWorkingDay;
+
+    private LocalDate availableFrom;
+
     private List<String> skills;          // only skill names
 }
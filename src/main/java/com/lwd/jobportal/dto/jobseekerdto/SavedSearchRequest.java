@@ -0,0 +1,34 @@
+package com.lwd.jobportal.dto.jobseekerdto;
+
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearchRequest {
+
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    // same filters as /api/jobs/search
+    private String keyword;
+    private String location;
+    private String industry;
+    private String companyName;
+    private Integer minExp;
+    private Integer maxExp;
+    private JobType jobType;
+
+    // ===== LWD FILTERS =====
+    private NoticeStatus noticePreference;
+    private Integer maxNoticePeriod;
+    private Boolean lwdPreferred;
+}
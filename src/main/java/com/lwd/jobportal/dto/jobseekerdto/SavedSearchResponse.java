@@ -0,0 +1,33 @@
+package com.lwd.jobportal.dto.jobseekerdto;
+
+import java.time.LocalDateTime;
+
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearchResponse {
+
+    private Long id;
+    private String name;
+
+    private String keyword;
+    private String location;
+    private String industry;
+    private String companyName;
+    private Integer minExp;
+    private Integer maxExp;
+    private JobType jobType;
+
+    private NoticeStatus noticePreference;
+    private Integer maxNoticePeriod;
+    private Boolean lwdPreferred;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package com.lwd.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import com.lwd.jobportal.enums.ApplicationStatus;
+import com.lwd.jobportal.enums.FunnelScope;
+
+/**
+ * Number of applications currently in a status, per company.
+ * Maintained by ApplicationFunnelService in the same transaction as the
+ * application_status_events rows it is derived from.
+ */
+@Entity
+@Table(
+    name = "application_funnel_counters",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_funnel_scope_status", columnNames = {"scope", "scope_id", "status"})
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationFunnelCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private FunnelScope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ApplicationStatus status;
+
+    @Column(nullable = false)
+    private long applications;
+}
@@ -0,0 +1,60 @@
+package com.lwd.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+import com.lwd.jobportal.enums.ApplicationStatus;
+
+/**
+ * Append-only history of application statuses: one row when an application
+ * is created (fromStatus null) and one per status change. Never updated or
+ * deleted; the funnel counters are a replay of this table.
+ */
+@Entity
+@Table(
+    name = "application_status_events",
+    indexes = {
+        // 🔹 History of one application / "already logged" check of the ingest writer
+        @Index(name = "idx_status_event_application", columnList = "application_id"),
+
+        // 🔹 Funnel rebuilds per job / company
+        @Index(name = "idx_status_event_job", columnList = "job_id"),
+        @Index(name = "idx_status_event_company", columnList = "company_id")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private ApplicationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private ApplicationStatus toStatus;
+
+    @Column(name = "changed_by")
+    private Long changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -5,6 +5,10 @@ import jakarta.validation.constraints.Min;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.BatchSize;
 
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.JobType;
@@ -110,6 +114,35 @@ public class Job {
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
     
+    // ================= SKILLS =================
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+        name = "job_required_skills",
+        joinColumns = @JoinColumn(name = "job_id"),
+        inverseJoinColumns = @JoinColumn(name = "skill_id"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "skill_id"}),
+        indexes = @Index(name = "idx_job_required_skill_skill", columnList = "skill_id")
+    )
+    @BatchSize(size = 20)
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Skill> requiredSkills = new HashSet<>();
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+        name = "job_nice_to_have_skills",
+        joinColumns = @JoinColumn(name = "job_id"),
+        inverseJoinColumns = @JoinColumn(name = "skill_id"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "skill_id"}),
+        indexes = @Index(name = "idx_job_nice_skill_skill", columnList = "skill_id")
+    )
+    @BatchSize(size = 20)
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Skill> niceToHaveSkills = new HashSet<>();
+
     @Column(nullable = false)
     @Builder.Default
     private Long viewCount = 0L;
@@ -0,0 +1,49 @@
+package com.lwd.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A job posted after a saved search was created that matches it.
+ * Written in batches by JobAlertQueue; (saved search, job) is unique.
+ */
+@Entity
+@Table(
+    name = "job_alerts",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_alert_search_job", columnNames = {"saved_search_id", "job_id"})
+    },
+    indexes = {
+        // 🔹 Job Seeker: my alerts, newest first
+        @Index(name = "idx_job_alert_user_created", columnList = "user_id, created_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean seen = false;
+}
@@ -0,0 +1,49 @@
+package com.lwd.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Per-job application counts, one row per job that has applications.
+ * Kept by ApplicationFunnelService with atomic increments in the same
+ * transaction as the apply / status change, so dashboards and job lists
+ * read counts instead of counting applications.
+ */
+@Entity
+@Table(name = "job_application_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobApplicationStats {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    // all applications, whatever their status
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long applied;
+
+    @Column(nullable = false)
+    private long shortlisted;
+
+    @Column(nullable = false)
+    private long interview;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(nullable = false)
+    private long selected;
+
+    @Column(nullable = false)
+    private long hired;
+
+    @Column(name = "on_hold", nullable = false)
+    private long onHold;
+}
@@ -45,6 +45,12 @@ import com.lwd.jobportal.enums.NoticeStatus;
 	        @Index(
 	            name = "idx_available_from",
 	            columnList = "available_from"
+	        ),
+
+	        // 🔹 Scheduled notice transitions / LWD range queries
+	        @Index(
+	            name = "idx_last_working_day",
+	            columnList = "last_working_day"
 	        )
 	    }
 	)
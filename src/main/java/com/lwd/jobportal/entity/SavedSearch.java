@@ -0,0 +1,64 @@
+package com.lwd.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+/**
+ * A job seeker's saved /api/jobs/search filter set. New jobs matching it
+ * are turned into {@link JobAlert}s.
+ */
+@Entity
+@Table(
+    name = "saved_searches",
+    indexes = {
+        @Index(name = "idx_saved_search_user", columnList = "user_id")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // ================= FILTERS =================
+    private String keyword;
+    private String location;
+    private String industry;
+    private String companyName;
+    private Integer minExp;
+    private Integer maxExp;
+
+    @Enumerated(EnumType.STRING)
+    private JobType jobType;
+
+    // ================= LWD FILTERS =================
+    @Enumerated(EnumType.STRING)
+    private NoticeStatus noticePreference;
+
+    private Integer maxNoticePeriod;
+    private Boolean lwdPreferred;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package com.lwd.jobportal.enums;
+
+// Per-job counts live in job_application_stats
+public enum FunnelScope {
+    COMPANY
+}
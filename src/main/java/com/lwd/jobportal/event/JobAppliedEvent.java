@@ -0,0 +1,16 @@
+package com.lwd.jobportal.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by JobApplicationService when a job seeker applies to a job.
+ * Listeners react after the transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class JobAppliedEvent {
+
+    private final Long jobId;
+    private final Long jobSeekerId;
+}
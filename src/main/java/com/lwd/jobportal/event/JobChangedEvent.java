@@ -0,0 +1,30 @@
+package com.lwd.jobportal.event;
+
+import com.lwd.jobportal.search.JobDocument;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by JobService / AdminService whenever a job is created,
+ * edited, closed or deleted. Listeners react after the transaction commits.
+ *
+ * before → state before the change (null on create)
+ * after  → state after the change
+ */
+@Getter
+@AllArgsConstructor
+public class JobChangedEvent {
+
+    private final Long jobId;
+    private final JobDocument before;
+    private final JobDocument after;
+
+    public boolean wasSearchable() {
+        return before != null && before.isSearchable();
+    }
+
+    public boolean isSearchable() {
+        return after != null && after.isSearchable();
+    }
+}
@@ -0,0 +1,15 @@
+package com.lwd.jobportal.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by JobSeekerService whenever a job seeker profile
+ * (or its skills) is created or changed.
+ */
+@Getter
+@AllArgsConstructor
+public class JobSeekerChangedEvent {
+
+    private final Long userId;
+}
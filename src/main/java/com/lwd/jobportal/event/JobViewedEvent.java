@@ -0,0 +1,16 @@
+package com.lwd.jobportal.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by JobService.getJobById for every job detail view.
+ * searchable → the job was OPEN and not deleted when viewed.
+ */
+@Getter
+@AllArgsConstructor
+public class JobViewedEvent {
+
+    private final Long jobId;
+    private final boolean searchable;
+}
@@ -0,0 +1,21 @@
+package com.lwd.jobportal.event;
+
+import com.lwd.jobportal.search.JobSearchQuery;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by SavedSearchService when a saved search is created or
+ * deleted. Listeners react after the transaction commits.
+ *
+ * query → the filters, null when the saved search was deleted
+ */
+@Getter
+@AllArgsConstructor
+public class SavedSearchChangedEvent {
+
+    private final Long savedSearchId;
+    private final Long userId;
+    private final JobSearchQuery query;
+}
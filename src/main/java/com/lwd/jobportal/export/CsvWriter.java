@@ -0,0 +1,69 @@
+package com.lwd.jobportal.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal RFC 4180 writer for export endpoints.
+ *
+ * Rows go through a small buffer straight to the response stream, so an
+ * export never holds more than one row in memory. Cells that a spreadsheet
+ * would evaluate as a formula (=, +, -, @) are prefixed with a quote.
+ */
+public final class CsvWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public void row(Object... cells) {
+        try {
+            for (int i = 0; i < cells.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(cells[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            // client went away: abort the export
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String escape(Object cell) {
+
+        if (cell == null) {
+            return "";
+        }
+
+        String value = cell.toString();
+
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !(cell instanceof Number)) {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,22 @@
+package com.lwd.jobportal.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.lwd.jobportal.entity.ApplicationFunnelCounter;
+import com.lwd.jobportal.enums.FunnelScope;
+
+@Repository
+public interface ApplicationFunnelCounterRepository extends JpaRepository<ApplicationFunnelCounter, Long> {
+
+    // 🔹 Company funnel: at most one row per status
+    @Query("""
+        SELECT c.status, c.applications FROM ApplicationFunnelCounter c
+        WHERE c.scope = :scope AND c.scopeId = :scopeId
+    """)
+    List<Object[]> findCounts(@Param("scope") FunnelScope scope, @Param("scopeId") Long scopeId);
+}
@@ -0,0 +1,119 @@
+package com.lwd.jobportal.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Candidate search as one forward-only row stream, for CSV export.
+ *
+ * Runs the same {@link Specification} as the paged search, but selects
+ * flat columns plus one skill name per row (LEFT JOIN skills) ordered by
+ * (sort key, id DESC), so a profile's rows arrive together and the caller
+ * can fold them as it writes. MySQL streams the result row by row
+ * (fetch size Integer.MIN_VALUE), so memory does not grow with the export.
+ *
+ * The stream holds the connection open and must be consumed and closed
+ * inside a transaction.
+ */
+@Repository
+public class CandidateExportRepository {
+
+    // Column aliases of the streamed tuples
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    public static final String EMAIL = "email";
+    public static final String CURRENT_COMPANY = "currentCompany";
+    public static final String CURRENT_LOCATION = "currentLocation";
+    public static final String PREFERRED_LOCATION = "preferredLocation";
+    public static final String TOTAL_EXPERIENCE = "totalExperience";
+    public static final String EXPECTED_CTC = "expectedCTC";
+    public static final String NOTICE_STATUS = "noticeStatus";
+    public static final String NOTICE_PERIOD = "noticePeriod";
+    public static final String IMMEDIATE_JOINER = "immediateJoiner";
+    public static final String LAST_WORKING_DAY = "lastWorkingDay";
+    public static final String AVAILABLE_FROM = "availableFrom";
+    public static final String SKILL = "skill";
+
+    private static final List<String> PROFILE_COLUMNS = List.of(
+            CURRENT_COMPANY, CURRENT_LOCATION, PREFERRED_LOCATION, TOTAL_EXPERIENCE, EXPECTED_CTC,
+            NOTICE_STATUS, NOTICE_PERIOD, IMMEDIATE_JOINER, LAST_WORKING_DAY, AVAILABLE_FROM
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Only selected profile columns can be sort keys (DISTINCT + ORDER BY)
+    public static boolean isSortable(String property) {
+        return PROFILE_COLUMNS.contains(property) || ID.equals(property);
+    }
+
+    public Stream<Tuple> streamRows(Specification<JobSeeker> spec, Sort sort) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<JobSeeker> root = query.from(JobSeeker.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // separate from any filtering join the specification made
+        Join<JobSeeker, User> user = root.join("user", JoinType.INNER);
+        Join<JobSeeker, Skill> skill = root.join("skills", JoinType.LEFT);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(ID).alias(ID));
+        selections.add(user.get("name").alias(NAME));
+        selections.add(user.get("email").alias(EMAIL));
+        for (String column : PROFILE_COLUMNS) {
+            selections.add(root.get(column).alias(column));
+        }
+        selections.add(skill.get("name").alias(SKILL));
+
+        List<Order> orders = new ArrayList<>();
+        Path<Long> id = root.get(ID);
+        boolean sortedById = false;
+
+        for (Sort.Order order : sort) {
+            Path<?> key = root.get(order.getProperty());
+            sortedById |= ID.equals(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(key) : cb.desc(key));
+        }
+        // also keeps each profile's skill rows next to each other
+        if (!sortedById) {
+            orders.add(cb.desc(id));
+        }
+
+        query.select(cb.tuple(selections.toArray(Selection[]::new)));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,116 @@
+package com.lwd.jobportal.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import com.lwd.jobportal.exception.InvalidOperationException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Phase one of "ids then hydrate" searches.
+ *
+ * Runs a specification as SELECT id, &lt;sort keys&gt; only, so MySQL can
+ * sort / de-duplicate / LIMIT narrow rows (ideally straight off a
+ * covering index) instead of full entity rows with TEXT columns.
+ * Callers then load the page rows by id with an entity graph.
+ *
+ * Specifications see a {@link Tuple} result type here and must only add
+ * fetch joins for entity queries.
+ */
+@Repository
+public class IdSliceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Fetches size + 1 ids to know whether another page exists (no COUNT)
+    public <T> Slice<Long> findIdSlice(Class<T> domainClass, Specification<T> spec, Pageable pageable) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+
+        Path<Long> id = root.get("id");
+        selections.add(id);
+
+        boolean sortedById = false;
+
+        // sort keys are selected too so DISTINCT + ORDER BY stays valid
+        for (Sort.Order order : pageable.getSort()) {
+
+            Path<?> key = sortPath(root, order.getProperty());
+
+            if ("id".equals(order.getProperty())) {
+                sortedById = true;
+            } else {
+                selections.add(key);
+            }
+            orders.add(order.isAscending() ? cb.asc(key) : cb.desc(key));
+        }
+
+        // tie-break so equal sort keys never shuffle between pages
+        if (!sortedById) {
+            orders.add(cb.desc(id));
+        }
+
+        query.select(cb.tuple(selections.toArray(Selection[]::new)));
+        query.orderBy(orders);
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+
+        List<Long> ids = rows.stream()
+                .limit(pageable.getPageSize())
+                .map(row -> row.get(0, Long.class))
+                .toList();
+
+        return new SliceImpl<>(ids, pageable, hasNext);
+    }
+
+    // "user.name" → LEFT JOIN user, then name (what findAll(spec, pageable) accepted)
+    private static Path<?> sortPath(Root<?> root, String property) {
+
+        String[] segments = property.split("\\.");
+
+        try {
+            From<?, ?> from = root;
+            for (int i = 0; i < segments.length - 1; i++) {
+                from = from.join(segments[i], JoinType.LEFT);
+            }
+            return from.get(segments[segments.length - 1]);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidOperationException("Cannot sort by '" + property + "'");
+        }
+    }
+}
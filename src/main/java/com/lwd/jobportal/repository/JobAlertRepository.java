@@ -0,0 +1,28 @@
+package com.lwd.jobportal.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.lwd.jobportal.entity.JobAlert;
+
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
+
+    // 🔹 Job Seeker: my alerts (paginated)
+    Page<JobAlert> findByUserId(Long userId, Pageable pageable);
+
+    long countByUserIdAndSeenFalse(Long userId);
+
+    @Modifying
+    @Query("UPDATE JobAlert a SET a.seen = true WHERE a.userId = :userId AND a.seen = false")
+    int markAllSeen(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM JobAlert a WHERE a.savedSearchId = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
@@ -3,15 +3,27 @@ package com.lwd.jobportal.repository;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 import com.lwd.jobportal.entity.JobApplication;
 import com.lwd.jobportal.enums.ApplicationStatus;
+import com.lwd.jobportal.search.JobDocument;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
@@ -37,6 +49,103 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     // RECRUITER → only jobs created by this recruiter
     Page<JobApplication> findByJobCreatedById(Long userId, Pageable pageable);
 
+    // 🔹 CSV export of /my-applications: forward-only streams (MySQL row-by-row),
+    //    job + company fetched with each row, newest first
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT ja FROM JobApplication ja
+        JOIN FETCH ja.job j
+        JOIN FETCH j.company
+        ORDER BY ja.appliedAt DESC, ja.id DESC
+    """)
+    Stream<JobApplication> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT ja FROM JobApplication ja
+        JOIN FETCH ja.job j
+        JOIN FETCH j.company c
+        WHERE c.id = :companyId
+        ORDER BY ja.appliedAt DESC, ja.id DESC
+    """)
+    Stream<JobApplication> streamByCompanyForExport(@Param("companyId") Long companyId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT ja FROM JobApplication ja
+        JOIN FETCH ja.job j
+        JOIN FETCH j.company
+        WHERE j.createdBy.id = :userId
+        ORDER BY ja.appliedAt DESC, ja.id DESC
+    """)
+    Stream<JobApplication> streamByJobCreatorForExport(@Param("userId") Long userId);
+
+    // 🔹 Bulk status change: (id, status, jobId, companyId) of the caller's applications
+    //    among `ids`, rows locked (in id order) until the UPDATE commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT ja.id, ja.status, j.id, j.company.id FROM JobApplication ja
+        JOIN ja.job j
+        WHERE ja.id IN :ids
+        ORDER BY ja.id
+    """)
+    List<Object[]> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT ja.id, ja.status, j.id, j.company.id FROM JobApplication ja
+        JOIN ja.job j
+        WHERE ja.id IN :ids
+        AND j.company.createdById = :userId
+        ORDER BY ja.id
+    """)
+    List<Object[]> lockStatusesByIdInAndCompanyCreator(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT ja.id, ja.status, j.id, j.company.id FROM JobApplication ja
+        JOIN ja.job j
+        WHERE ja.id IN :ids
+        AND j.createdBy.id = :userId
+        ORDER BY ja.id
+    """)
+    List<Object[]> lockStatusesByIdInAndJobCreator(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId
+    );
+
+    // 🔹 Single status change: entity read with the row locked
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.id = :id")
+    Optional<JobApplication> findByIdForUpdate(@Param("id") Long id);
+
+    // 🔹 Bulk status change: one UPDATE (bypasses @PreUpdate, so updatedAt is set here)
+    @Modifying
+    @Query("""
+        UPDATE JobApplication ja
+        SET ja.status = :status, ja.updatedBy = :userId, ja.updatedAt = :now
+        WHERE ja.id IN :ids
+        AND ja.status <> :status
+    """)
+    int updateStatusByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ApplicationStatus status,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
+    );
+
     // 🔹 Job Seeker: my applications (paginated)
     Page<JobApplication> findByJobSeekerId(Long jobSeekerId, Pageable pageable);
 
@@ -72,6 +181,37 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     List<Object[]> countApplicationsPerDay(LocalDateTime weekAgo);
     
     List<JobApplication> findTop5ByOrderByAppliedAtDesc();
+
+    // 🔹 TrendingEngine seed: recent applications to open jobs
+    @Query("""
+    	    SELECT ja.job.id, ja.appliedAt
+    	    FROM JobApplication ja
+    	    WHERE ja.appliedAt >= :since
+    	    AND ja.job.status = 'OPEN'
+    	    AND ja.job.deleted = false
+    	""")
+    List<Object[]> findAppliedAtOfOpenJobsSince(@Param("since") LocalDateTime since);
+
+    // 🔹 Recommendations: every job the user applied to (ids only)
+    @Query("SELECT ja.job.id FROM JobApplication ja WHERE ja.jobSeeker.id = :userId")
+    List<Long> findAppliedJobIds(@Param("userId") Long userId);
+
+    // 🔹 Recommendations: most recent applications, newest first
+    @Query("""
+    	    SELECT new com.lwd.jobportal.search.JobDocument(
+    	        j.id, j.title, j.location, j.industry,
+    	        c.id, c.companyName,
+    	        j.jobType, j.minExperience, j.maxExperience,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        j.status, j.deleted, j.createdAt
+    	    )
+    	    FROM JobApplication ja
+    	    JOIN ja.job j
+    	    JOIN j.company c
+    	    WHERE ja.jobSeeker.id = :userId
+    	    ORDER BY ja.appliedAt DESC, ja.id DESC
+    	""")
+    List<JobDocument> findRecentAppliedJobs(@Param("userId") Long userId, Limit limit);
     
     // funnel queries for company
     @Query("SELECT ja.status, COUNT(ja) FROM JobApplication ja WHERE ja.job.company.id = :companyId GROUP BY ja.status")
@@ -0,0 +1,32 @@
+package com.lwd.jobportal.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.lwd.jobportal.entity.JobApplicationStats;
+
+@Repository
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationStats, Long> {
+
+    // 🔹 Recruiter dashboard / job list: (Job, JobApplicationStats or null) in one query
+    @Query("""
+        SELECT j, s FROM Job j
+        LEFT JOIN JobApplicationStats s ON s.jobId = j.id
+        WHERE j.createdBy.id = :userId
+        ORDER BY j.id
+    """)
+    List<Object[]> findJobsWithStatsByCreatedById(@Param("userId") Long userId);
+
+    // 🔹 Recruiter admin dashboard: applications received per recruiter of a company
+    @Query("""
+        SELECT j.createdBy.id, SUM(s.total) FROM JobApplicationStats s
+        JOIN Job j ON j.id = s.jobId
+        WHERE j.company.id = :companyId
+        GROUP BY j.createdBy.id
+    """)
+    List<Object[]> sumTotalByCreatorForCompany(@Param("companyId") Long companyId);
+}
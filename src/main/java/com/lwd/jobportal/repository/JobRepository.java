@@ -1,11 +1,14 @@
 package com.lwd.jobportal.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -13,8 +16,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lwd.jobportal.dto.jobdto.JobApplyTarget;
+import com.lwd.jobportal.dto.jobdto.JobCard;
 import com.lwd.jobportal.entity.Job;
 import com.lwd.jobportal.enums.JobStatus;
+import com.lwd.jobportal.search.JobDocument;
 import com.lwd.jobportal.specification.IndustryCount;
 
 @Repository
@@ -35,12 +41,174 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     })
     Optional<Job> findByIdAndDeletedFalse(Long id);
 
+    // 🔹 Apply path: status + company id only, no entity or joins
+    @Query("SELECT j.status AS status, j.company.id AS companyId FROM Job j WHERE j.id = :id")
+    Optional<JobApplyTarget> findApplyTargetById(@Param("id") Long id);
+
+    // 🔹 Hydrate a page of ids (search index / IdSliceRepository) as listing cards,
+    //    no TEXT description and no createdBy user
+    @Query("""
+    	    SELECT new com.lwd.jobportal.dto.jobdto.JobCard(
+    	        j.id, j.title, j.location, j.salary, j.status, j.industry,
+    	        j.minExperience, j.maxExperience, j.jobType, j.createdAt,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        c.id, c.companyName, c.logoUrl
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE j.id IN :ids
+    	""")
+    	List<JobCard> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(
+    	    value = """
+    	    SELECT new com.lwd.jobportal.dto.jobdto.JobCard(
+    	        j.id, j.title, j.location, j.salary, j.status, j.industry,
+    	        j.minExperience, j.maxExperience, j.jobType, j.createdAt,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        c.id, c.companyName, c.logoUrl
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE j.company.id = :companyId
+    	    """,
+    	    countQuery = "SELECT COUNT(j) FROM Job j WHERE j.company.id = :companyId"
+    )
+    	Page<JobCard> findCardsByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query("""
+    	    SELECT new com.lwd.jobportal.dto.jobdto.JobCard(
+    	        j.id, j.title, j.location, j.salary, j.status, j.industry,
+    	        j.minExperience, j.maxExperience, j.jobType, j.createdAt,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        c.id, c.companyName, c.logoUrl
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE UPPER(j.industry) = UPPER(:industry)
+    	    AND j.status = :status
+    	""")
+    	Slice<JobCard> findCardsByIndustry(
+    	        @Param("industry") String industry,
+    	        @Param("status") JobStatus status,
+    	        Pageable pageable
+    	);
+
+    @Query("""
+    	    SELECT new com.lwd.jobportal.dto.jobdto.JobCard(
+    	        j.id, j.title, j.location, j.salary, j.status, j.industry,
+    	        j.minExperience, j.maxExperience, j.jobType, j.createdAt,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        c.id, c.companyName, c.logoUrl
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE j.status = 'OPEN'
+    	    ORDER BY j.viewCount DESC
+    	""")
+    	List<JobCard> findTrendingCards(Pageable pageable);
+
+    // 🔹 Bulk load for JobSearchIndex (no TEXT description)
+    @Query("""
+    	    SELECT new com.lwd.jobportal.search.JobDocument(
+    	        j.id, j.title, j.location, j.industry,
+    	        c.id, c.companyName,
+    	        j.jobType, j.minExperience, j.maxExperience,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        j.status, j.deleted, j.createdAt
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE j.deleted = false
+    	    AND j.status = 'OPEN'
+    	""")
+    	List<JobDocument> findSearchableDocuments();
+
+    // 🔹 Open jobs of one company (re-index after a company rename)
+    @Query("""
+    	    SELECT new com.lwd.jobportal.search.JobDocument(
+    	        j.id, j.title, j.location, j.industry,
+    	        c.id, c.companyName,
+    	        j.jobType, j.minExperience, j.maxExperience,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        j.status, j.deleted, j.createdAt
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE c.id = :companyId
+    	    AND j.deleted = false
+    	    AND j.status = 'OPEN'
+    	""")
+    	List<JobDocument> findSearchableDocumentsByCompanyId(@Param("companyId") Long companyId);
+
     
-    List<Job> findByStatusAndCreatedAtLessThanOrderByCreatedAtDesc(
-            JobStatus status,
-            LocalDateTime lastSeen,
-            Pageable pageable
-    );
+    // 🔹 Skill matching: (jobId, skillId, required?) of every open job
+    @Query("""
+    	    SELECT j.id, s.id, true
+    	    FROM Job j JOIN j.requiredSkills s
+    	    WHERE j.deleted = false AND j.status = 'OPEN'
+    	    UNION ALL
+    	    SELECT j.id, s.id, false
+    	    FROM Job j JOIN j.niceToHaveSkills s
+    	    WHERE j.deleted = false AND j.status = 'OPEN'
+    	""")
+    	List<Object[]> findSkillIdsOfOpenJobs();
+
+    // 🔹 Skill matching: (skillId, required?) of one job
+    @Query("""
+    	    SELECT s.id, true FROM Job j JOIN j.requiredSkills s WHERE j.id = :jobId
+    	    UNION ALL
+    	    SELECT s.id, false FROM Job j JOIN j.niceToHaveSkills s WHERE j.id = :jobId
+    	""")
+    	List<Object[]> findSkillIdsByJobId(@Param("jobId") Long jobId);
+
+
+    // 🔹 Keyset feed: seeks idx_jobs_deleted_status_created_at, no COUNT
+    @Query("""
+    	    SELECT new com.lwd.jobportal.dto.jobdto.JobCard(
+    	        j.id, j.title, j.location, j.salary, j.status, j.industry,
+    	        j.minExperience, j.maxExperience, j.jobType, j.createdAt,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        c.id, c.companyName, c.logoUrl
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE j.deleted = false
+    	    AND j.status = :status
+    	    AND j.createdAt <= :createdAt
+    	    AND (j.createdAt < :createdAt OR j.id < :id)
+    	    ORDER BY j.createdAt DESC, j.id DESC
+    	""")
+    	List<JobCard> findFeedBefore(
+    	        @Param("status") JobStatus status,
+    	        @Param("createdAt") LocalDateTime createdAt,
+    	        @Param("id") Long id,
+    	        Limit limit
+    	);
+
+    @Query("""
+    	    SELECT new com.lwd.jobportal.dto.jobdto.JobCard(
+    	        j.id, j.title, j.location, j.salary, j.status, j.industry,
+    	        j.minExperience, j.maxExperience, j.jobType, j.createdAt,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        c.id, c.companyName, c.logoUrl
+    	    )
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE j.deleted = false
+    	    AND j.status = :status
+    	    AND LOWER(j.industry) = LOWER(:industry)
+    	    AND j.createdAt <= :createdAt
+    	    AND (j.createdAt < :createdAt OR j.id < :id)
+    	    ORDER BY j.createdAt DESC, j.id DESC
+    	""")
+    	List<JobCard> findIndustryFeedBefore(
+    	        @Param("industry") String industry,
+    	        @Param("status") JobStatus status,
+    	        @Param("createdAt") LocalDateTime createdAt,
+    	        @Param("id") Long id,
+    	        Limit limit
+    	);
     
     @Query("""
     		SELECT j FROM Job j
@@ -50,11 +218,7 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     		""")
     List<Job> findLatestJobsWithCompany(JobStatus status, Pageable pageable);
 
-    Page<Job> findByIndustryIgnoreCaseAndStatus(
-            String industry,
-            JobStatus status,
-            Pageable pageable
-    );
+    long countByIndustryIgnoreCaseAndStatus(String industry, JobStatus status);
     
     @Query("""
     	    SELECT j FROM Job j
@@ -69,32 +233,32 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     	Page<Job> quickSearch(@Param("keyword") String keyword, Pageable pageable);
 
     
+    // 🔹 Suggested jobs while the search index is loading
     @Query("""
-    	    SELECT j FROM Job j
-    	    WHERE j.id NOT IN (
-    	        SELECT a.job.id FROM JobApplication a WHERE a.jobSeeker.id = :userId
+    	    SELECT new com.lwd.jobportal.dto.jobdto.JobCard(
+    	        j.id, j.title, j.location, j.salary, j.status, j.industry,
+    	        j.minExperience, j.maxExperience, j.jobType, j.createdAt,
+    	        j.noticePreference, j.maxNoticePeriod, j.lwdPreferred,
+    	        c.id, c.companyName, c.logoUrl
     	    )
-    	      AND (j.industry = :industry OR j.location = :location)
-    	    ORDER BY 
-    	        CASE 
-    	            WHEN j.industry = :industry THEN 0
-    	            ELSE 1
-    	        END,
-    	        j.createdAt DESC
-    	""")
-    	List<Job> findSuggestedJobs(@Param("userId") Long userId,
-    	                            @Param("industry") String industry,
-    	                            @Param("location") String location,
-    	                            Pageable pageable);
-
-
-    
-    @Query("""
-    	    SELECT a.job FROM JobApplication a
-    	    WHERE a.jobSeeker.id = :userId
-    	    ORDER BY a.appliedAt DESC
+    	    FROM Job j
+    	    JOIN j.company c
+    	    WHERE j.deleted = false
+    	    AND j.status = 'OPEN'
+    	    AND (j.industry = :industry OR j.location = :location)
+    	    AND NOT EXISTS (
+    	        SELECT 1 FROM JobApplication a
+    	        WHERE a.job = j AND a.jobSeeker.id = :userId
+    	    )
+    	    ORDER BY
+    	        CASE WHEN j.industry = :industry THEN 0 ELSE 1 END,
+    	        j.createdAt DESC,
+    	        j.id DESC
     	""")
-    	List<Job> findJobsByUserIdOrderByAppliedAtDesc(Long userId);
+    	Slice<JobCard> findSuggestedCards(@Param("userId") Long userId,
+    	                                  @Param("industry") String industry,
+    	                                  @Param("location") String location,
+    	                                  Pageable pageable);
 
 
     
@@ -147,14 +311,6 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     	List<String> findIndustrySuggestions(@Param("keyword") String keyword, Pageable pageable);
 
 
-    
-    @Query("""
-    	    SELECT j FROM Job j
-    	    WHERE j.status = 'OPEN'
-    	    ORDER BY j.viewCount DESC
-    	""")
-    	List<Job> findTrendingJobs(Pageable pageable);
-
     @Query("""
     	       SELECT j.industry AS industry, COUNT(j) AS count
     	       FROM Job j
@@ -165,6 +321,16 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     	List<IndustryCount> findTopIndustries(Pageable pageable);
     
     
+    // 🔹 TrendingEngine seed: all-time views of open jobs
+    @Query("""
+    	    SELECT j.id, j.viewCount, j.createdAt
+    	    FROM Job j
+    	    WHERE j.deleted = false
+    	    AND j.status = 'OPEN'
+    	    AND j.viewCount > 0
+    	""")
+    	List<Object[]> findViewCountsOfOpenJobs();
+
     long countByStatus(JobStatus status);
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
     long countByCompanyIdAndStatus(Long companyId, JobStatus status);
@@ -2,12 +2,19 @@ package com.lwd.jobportal.repository;
 
 import com.lwd.jobportal.entity.JobSeeker;
 import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.search.CandidateDocument;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +25,103 @@ public interface JobSeekerRepository extends JpaRepository<JobSeeker, Long>, Jpa
 	
 	Optional<JobSeeker> findByUserId(Long userId);
 
+	// 🔹 Profile + skills in one query (job recommendations)
+	@EntityGraph(attributePaths = {"skills"})
+	Optional<JobSeeker> findWithSkillsByUserId(Long userId);
+
+	// 🔹 Hydrate a page of ids from IdSliceRepository
+	// (skills come from SkillRepository.findSkillNamesByUserIdIn, never a collection fetch)
+	@EntityGraph(attributePaths = {"user"})
+	List<JobSeeker> findByIdIn(Collection<Long> ids);
+
+
+    // 🔹 Skill matching: (profileId, skillId) of every profile
+    @Query("SELECT js.id, s.id FROM JobSeeker js JOIN js.skills s")
+    List<Object[]> findAllSkillIds();
+
+    // 🔹 Skill matching: (profileId, skillId) of one user's profile
+    @Query("SELECT js.id, s.id FROM JobSeeker js JOIN js.skills s WHERE js.user.id = :userId")
+    List<Object[]> findSkillIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT js.id FROM JobSeeker js WHERE js.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+
+    // 🔹 Candidate search index: searchable fields of every profile, by id
+    @Query("""
+        SELECT new com.lwd.jobportal.search.CandidateDocument(
+            js.id, u.name, js.currentCompany, js.currentLocation, js.preferredLocation,
+            js.totalExperience, js.expectedCTC, js.noticeStatus, js.noticePeriod,
+            js.immediateJoiner, js.lastWorkingDay, js.availableFrom
+        )
+        FROM JobSeeker js
+        JOIN js.user u
+        ORDER BY js.id
+    """)
+    List<CandidateDocument> findCandidateDocuments();
+
+    @Query("""
+        SELECT new com.lwd.jobportal.search.CandidateDocument(
+            js.id, u.name, js.currentCompany, js.currentLocation, js.preferredLocation,
+            js.totalExperience, js.expectedCTC, js.noticeStatus, js.noticePeriod,
+            js.immediateJoiner, js.lastWorkingDay, js.availableFrom
+        )
+        FROM JobSeeker js
+        JOIN js.user u
+        WHERE u.id = :userId
+    """)
+    Optional<CandidateDocument> findCandidateDocumentByUserId(@Param("userId") Long userId);
+
+    // 🔹 Candidate search index: (profileId, skill name) of every profile
+    @Query("SELECT js.id, s.name FROM JobSeeker js JOIN js.skills s")
+    List<Object[]> findAllSkillNames();
+
+
+    // 🔹 Availability index: (id, noticeStatus, immediateJoiner, lastWorkingDay, availableFrom, noticePeriod)
+    @Query("""
+        SELECT js.id, js.noticeStatus, js.immediateJoiner, js.lastWorkingDay, js.availableFrom, js.noticePeriod
+        FROM JobSeeker js
+        ORDER BY js.id
+    """)
+    List<Object[]> findAvailabilityRows();
+
+    @Query("""
+        SELECT js.id, js.noticeStatus, js.immediateJoiner, js.lastWorkingDay, js.availableFrom, js.noticePeriod
+        FROM JobSeeker js
+        WHERE js.user.id = :userId
+    """)
+    List<Object[]> findAvailabilityRowsByUserId(@Param("userId") Long userId);
+
+
+    // 🔹 Notice transitions: (id, userId) of profiles whose last working day has passed
+    //    but are not yet immediate joiners, keyset paged by id
+    @Query("""
+        SELECT js.id, js.user.id
+        FROM JobSeeker js
+        WHERE js.lastWorkingDay < :today
+        AND js.id > :afterId
+        AND (js.noticeStatus IS NULL
+             OR js.noticeStatus <> com.lwd.jobportal.enums.NoticeStatus.IMMEDIATE_JOINER
+             OR js.immediateJoiner IS NULL
+             OR js.immediateJoiner = false)
+        ORDER BY js.id
+    """)
+    List<Object[]> findLapsedNoticeProfiles(
+            @Param("today") LocalDate today,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE JobSeeker js
+        SET js.noticeStatus = com.lwd.jobportal.enums.NoticeStatus.IMMEDIATE_JOINER,
+            js.immediateJoiner = true
+        WHERE js.id IN :ids
+        AND js.lastWorkingDay < :today
+    """)
+    int markImmediateJoiners(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
 
     // Recruiter Filters
     List<JobSeeker> findByNoticeStatus(NoticeStatus status);
@@ -0,0 +1,19 @@
+package com.lwd.jobportal.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.lwd.jobportal.entity.SavedSearch;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    Optional<SavedSearch> findByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -23,9 +24,8 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     // 🔎 Autocomplete support
     List<Skill> findByNameContainingIgnoreCase(String keyword);
 
-    // 🔥 Bulk fetch (very useful)
-    @Query("SELECT s FROM Skill s WHERE LOWER(s.name) IN :names")
-    List<Skill> findExistingSkills(@Param("names") Set<String> names);
+    // 🔥 Bulk fetch by (already normalized) name, served by the unique name index
+    List<Skill> findByNameIn(Collection<String> names);
     
     @Query("""
 		       select s.name 
@@ -34,6 +34,16 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
 		       where js.user.id = :userId
 		       """)
 		Set<String> findSkillNamesByUserId(@Param("userId") Long userId);
+
+    // 🔥 Skill names of a page of profiles: (userId, skill name) rows, one query
+    @Query("""
+           SELECT js.user.id, s.name
+           FROM JobSeeker js
+           JOIN js.skills s
+           WHERE js.user.id IN :userIds
+           ORDER BY s.name
+           """)
+    List<Object[]> findSkillNamesByUserIdIn(@Param("userIds") Collection<Long> userIds);
     
     Page<Skill> findByNameContainingIgnoreCase(String keyword, Pageable pageable);
 
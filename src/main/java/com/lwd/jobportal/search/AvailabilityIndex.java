@@ -0,0 +1,300 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.event.JobSeekerChangedEvent;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * When can a candidate join? Day-bucketed index over job seeker profiles.
+ *
+ * Every profile (except NOT_LOOKING) gets exactly one availability:
+ *
+ *  - immediate: IMMEDIATE_JOINER status or the immediateJoiner flag
+ *  - a calendar day: the day after lastWorkingDay, else availableFrom
+ *  - a notice period in days, counted from today (no dates given)
+ *
+ * Calendar days and notice periods are bitmaps keyed by day, so "available
+ * within N days" is the union of the buckets up to today + N, walked in day
+ * order (earliest joiners first). lastWorkingDay has its own day buckets
+ * for "LWD between" queries.
+ *
+ * Loaded once the application is ready and kept in sync from
+ * {@link JobSeekerChangedEvent}s (profile saves and the nightly notice
+ * transitions) after commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex {
+
+    private final JobSeekerRepository jobSeekerRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ===== guarded by lock =====
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private long[] ids = new long[1024];
+    private Entry[] entries = new Entry[1024];
+    private int size;
+
+    private final BitSet immediate = new BitSet();
+    private final TreeMap<Long, BitSet> availableByDay = new TreeMap<>();
+    private final TreeMap<Integer, BitSet> availableByNoticeDays = new TreeMap<>();
+    private final TreeMap<Long, BitSet> lastWorkingDayByDay = new TreeMap<>();
+
+    private List<Object[]> changesWhileLoading;
+
+    private volatile boolean ready = false;
+
+
+    // Where one profile sits in the buckets (null = not in that structure)
+    private record Entry(boolean immediate, Long availableDay, Integer noticeDays, Long lastWorkingDay) {}
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        lock.writeLock().lock();
+        try {
+            changesWhileLoading = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> rows = null;
+        try {
+            rows = jobSeekerRepository.findAvailabilityRows();
+        } catch (RuntimeException ex) {
+            log.error("Availability index could not be loaded", ex);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (rows != null) {
+                rows.forEach(this::put);
+
+                // replay whatever was committed while we were reading
+                changesWhileLoading.forEach(this::put);
+                ready = true;
+                log.info("Availability index loaded with {} profiles", size);
+            }
+            changesWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    // ==================================================
+    // INCREMENTAL UPDATES
+    // ==================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSeekerChanged(JobSeekerChangedEvent event) {
+
+        List<Object[]> rows = jobSeekerRepository.findAvailabilityRowsByUserId(event.getUserId());
+
+        lock.writeLock().lock();
+        try {
+            for (Object[] row : rows) {
+                if (changesWhileLoading != null) {
+                    changesWhileLoading.add(row);
+                }
+                if (ready) {
+                    put(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // row = (id, noticeStatus, immediateJoiner, lastWorkingDay, availableFrom, noticePeriod)
+    private void put(Object[] row) {
+
+        Long id = (Long) row[0];
+        Entry entry = entryOf((NoticeStatus) row[1], (Boolean) row[2], (LocalDate) row[3], (LocalDate) row[4], (Integer) row[5]);
+
+        Integer ordinal = ordinalById.get(id);
+
+        if (ordinal == null) {
+            ordinal = size++;
+            if (ordinal == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            ids[ordinal] = id;
+            ordinalById.put(id, ordinal);
+        } else {
+            unindex(entries[ordinal], ordinal);
+        }
+
+        entries[ordinal] = entry;
+        index(entry, ordinal);
+    }
+
+    private static Entry entryOf(
+            NoticeStatus status,
+            Boolean immediateJoiner,
+            LocalDate lastWorkingDay,
+            LocalDate availableFrom,
+            Integer noticePeriod
+    ) {
+        Long lwd = lastWorkingDay != null ? lastWorkingDay.toEpochDay() : null;
+
+        if (status == NoticeStatus.NOT_LOOKING) {
+            return new Entry(false, null, null, lwd);
+        }
+        if (status == NoticeStatus.IMMEDIATE_JOINER || Boolean.TRUE.equals(immediateJoiner)) {
+            return new Entry(true, null, null, lwd);
+        }
+        if (lwd != null) {
+            return new Entry(false, lwd + 1, null, lwd);
+        }
+        if (availableFrom != null) {
+            return new Entry(false, availableFrom.toEpochDay(), null, null);
+        }
+        return new Entry(false, null, noticePeriod, null);
+    }
+
+    private void index(Entry entry, int ordinal) {
+        if (entry.immediate()) {
+            immediate.set(ordinal);
+        }
+        if (entry.availableDay() != null) {
+            availableByDay.computeIfAbsent(entry.availableDay(), d -> new BitSet()).set(ordinal);
+        }
+        if (entry.noticeDays() != null) {
+            availableByNoticeDays.computeIfAbsent(entry.noticeDays(), d -> new BitSet()).set(ordinal);
+        }
+        if (entry.lastWorkingDay() != null) {
+            lastWorkingDayByDay.computeIfAbsent(entry.lastWorkingDay(), d -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void unindex(Entry entry, int ordinal) {
+        immediate.clear(ordinal);
+        clear(availableByDay, entry.availableDay(), ordinal);
+        clear(availableByNoticeDays, entry.noticeDays(), ordinal);
+        clear(lastWorkingDayByDay, entry.lastWorkingDay(), ordinal);
+    }
+
+    private static <K> void clear(Map<K, BitSet> buckets, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        BitSet bits = buckets.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+
+    // ==================================================
+    // QUERIES
+    // ==================================================
+    // Profiles able to join on or before today + days, earliest first
+    public JobSearchResult availableWithin(int days, int page, int size) {
+
+        long today = LocalDate.now().toEpochDay();
+
+        lock.readLock().lock();
+        try {
+            // immediate joiners and past dates first, then day by day
+            TreeMap<Long, BitSet> byDay = new TreeMap<>();
+            byDay.put(Long.MIN_VALUE, immediate);
+
+            availableByDay.headMap(today + days, true)
+                    .forEach((day, bits) -> merge(byDay, Math.max(day, today), bits));
+            availableByNoticeDays.headMap(days, true)
+                    .forEach((noticeDays, bits) -> merge(byDay, today + Math.max(noticeDays, 0), bits));
+
+            return page(byDay, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Profiles whose last working day is within [from, to], earliest first
+    public JobSearchResult lastWorkingDayBetween(LocalDate from, LocalDate to, int page, int size) {
+
+        lock.readLock().lock();
+        try {
+            return page(
+                    lastWorkingDayByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true),
+                    page,
+                    size
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Buckets are shared with the index, so merging copies before OR-ing
+    private static void merge(TreeMap<Long, BitSet> byDay, long day, BitSet bits) {
+        byDay.merge(day, bits, (current, more) -> {
+            BitSet union = (BitSet) current.clone();
+            union.or(more);
+            return union;
+        });
+    }
+
+    // Walks the buckets in key order, skipping whole buckets by cardinality;
+    // within a bucket the newest profiles come first
+    private JobSearchResult page(Map<?, BitSet> buckets, int page, int size) {
+
+        long total = 0;
+        long skip = (long) page * size;
+        List<Long> result = new ArrayList<>(size);
+
+        for (BitSet bits : buckets.values()) {
+
+            int count = bits.cardinality();
+            total += count;
+
+            if (result.size() == size) {
+                continue;
+            }
+            if (skip >= count) {
+                skip -= count;
+                continue;
+            }
+
+            for (int i = bits.previousSetBit(bits.length() - 1); i >= 0 && result.size() < size; i = bits.previousSetBit(i - 1)) {
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                result.add(ids[i]);
+            }
+        }
+        return new JobSearchResult(result, total);
+    }
+}
@@ -0,0 +1,57 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the searchable fields of a job seeker profile.
+ * Skill names are lower-cased, as the candidate search compares them.
+ */
+@Getter
+@AllArgsConstructor
+public class CandidateDocument {
+
+    private final Long id;
+    private final String name;
+    private final String currentCompany;
+    private final String currentLocation;
+    private final String preferredLocation;
+    private final Integer totalExperience;
+    private final Double expectedCTC;
+    private final NoticeStatus noticeStatus;
+    private final Integer noticePeriod;
+    private final Boolean immediateJoiner;
+    private final LocalDate lastWorkingDay;
+    private final LocalDate availableFrom;
+    private final List<String> skills;
+
+    // Used by "SELECT new com.lwd.jobportal.search.CandidateDocument(...)"
+    public CandidateDocument(
+            Long id,
+            String name,
+            String currentCompany,
+            String currentLocation,
+            String preferredLocation,
+            Integer totalExperience,
+            Double expectedCTC,
+            NoticeStatus noticeStatus,
+            Integer noticePeriod,
+            Boolean immediateJoiner,
+            LocalDate lastWorkingDay,
+            LocalDate availableFrom
+    ) {
+        this(id, name, currentCompany, currentLocation, preferredLocation, totalExperience,
+                expectedCTC, noticeStatus, noticePeriod, immediateJoiner, lastWorkingDay, availableFrom, List.of());
+    }
+
+    public CandidateDocument withSkills(List<String> skillNames) {
+        return new CandidateDocument(id, name, currentCompany, currentLocation, preferredLocation,
+                totalExperience, expectedCTC, noticeStatus, noticePeriod, immediateJoiner, lastWorkingDay, availableFrom,
+                skillNames.stream().map(skill -> skill.trim().toLowerCase()).distinct().toList());
+    }
+}
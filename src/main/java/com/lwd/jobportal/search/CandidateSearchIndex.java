@@ -0,0 +1,551 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchRequest;
+import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.event.JobSeekerChangedEvent;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+import com.lwd.jobportal.repository.SkillRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index over every job seeker profile for recruiter search.
+ *
+ * Profiles get ordinals in id order, so the highest set bit is the newest
+ * profile (the "id DESC" tie-break of the SQL search). Posting lists are
+ * bitmaps over ordinals:
+ *
+ *  - keyword tokens (name, current company, current location, skills)
+ *  - current / preferred location tokens
+ *  - exact skill names, noticeStatus and immediateJoiner values
+ *
+ * totalExperience, expectedCTC, noticePeriod and availableFrom live in
+ * {@link SortedColumn}s, so range filters are binary searches. A search is
+ * a chain of bitmap ANDs; the requested page is picked with a bounded heap
+ * (by a column, or by a relevance score for {@value #RELEVANCE}) and only
+ * those ids are hydrated from MySQL.
+ *
+ * Loaded once the application is ready and kept in sync from
+ * {@link JobSeekerChangedEvent}s after commit. Until it is ready callers
+ * fall back to the SQL search.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateSearchIndex {
+
+    // sortBy value of the "best match" ordering
+    public static final String RELEVANCE = "relevance";
+
+    // ===== relevance weights (each component scores 0..1) =====
+    private static final double SKILL_WEIGHT = 4.0;
+    private static final double NOTICE_WEIGHT = 1.5;
+    private static final double AVAILABILITY_WEIGHT = 1.5;
+    private static final double CTC_WEIGHT = 1.0;
+    private static final double LOCATION_WEIGHT = 1.0;
+
+    // Notice / days-until-available beyond this score 0
+    private static final double HORIZON_DAYS = 90;
+    private static final int SCORE_SCALE = 1_000_000;
+
+    private final JobSeekerRepository jobSeekerRepository;
+    private final SkillRepository skillRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ===== guarded by lock =====
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private CandidateDocument[] docs = new CandidateDocument[1024];
+    private int size;
+
+    private final TreeMap<String, BitSet> keywordPostings = new TreeMap<>();
+    private final TreeMap<String, BitSet> currentLocationPostings = new TreeMap<>();
+    private final TreeMap<String, BitSet> preferredLocationPostings = new TreeMap<>();
+    private final Map<String, BitSet> skillPostings = new HashMap<>();
+
+    private final EnumMap<NoticeStatus, BitSet> noticePostings = new EnumMap<>(NoticeStatus.class);
+    private final BitSet immediateJoiners = new BitSet();
+    private final BitSet notImmediateJoiners = new BitSet();
+
+    private final EnumMap<SortField, SortedColumn> columns = new EnumMap<>(SortField.class);
+
+    private List<CandidateDocument> changesWhileLoading;
+
+    private volatile boolean ready = false;
+
+
+    // Sortable / range-filterable fields (names match JobSeeker properties)
+    private enum SortField {
+        TOTAL_EXPERIENCE("totalExperience"),
+        EXPECTED_CTC("expectedCTC"),
+        NOTICE_PERIOD("noticePeriod"),
+        AVAILABLE_FROM("availableFrom");
+
+        private final String property;
+
+        SortField(String property) {
+            this.property = property;
+        }
+
+        static SortField of(String property) {
+            for (SortField field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        lock.writeLock().lock();
+        try {
+            changesWhileLoading = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<CandidateDocument> documents = new ArrayList<>();
+        try {
+            Map<Long, List<String>> skills = new HashMap<>();
+            for (Object[] row : jobSeekerRepository.findAllSkillNames()) {
+                skills.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+            // ordered by id → ordinals follow ids
+            for (CandidateDocument doc : jobSeekerRepository.findCandidateDocuments()) {
+                documents.add(doc.withSkills(skills.getOrDefault(doc.getId(), List.of())));
+            }
+        } catch (RuntimeException ex) {
+            log.error("Candidate search index could not be loaded, falling back to SQL search", ex);
+            documents = null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (documents != null) {
+                for (SortField field : SortField.values()) {
+                    columns.put(field, new SortedColumn());
+                }
+                documents.forEach(this::put);
+
+                // replay whatever was committed while we were reading
+                changesWhileLoading.forEach(this::put);
+
+                columns.values().forEach(SortedColumn::rebuild);
+                ready = true;
+                log.info("Candidate search index loaded with {} profiles", size);
+            }
+            changesWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public static boolean supportsSort(String sortBy) {
+        return RELEVANCE.equals(sortBy) || "id".equals(sortBy) || SortField.of(sortBy) != null;
+    }
+
+
+    // ==================================================
+    // INCREMENTAL UPDATES
+    // ==================================================
+    // The profile row is read outside the lock; only the in-memory write is locked
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSeekerChanged(JobSeekerChangedEvent event) {
+
+        CandidateDocument doc = jobSeekerRepository.findCandidateDocumentByUserId(event.getUserId())
+                .map(found -> found.withSkills(
+                        List.copyOf(skillRepository.findSkillNamesByUserId(event.getUserId()))))
+                .orElse(null);
+
+        if (doc == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changesWhileLoading != null) {
+                changesWhileLoading.add(doc);
+            }
+            if (ready) {
+                put(doc);
+                columns.values().forEach(SortedColumn::rebuildIfStale);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(CandidateDocument doc) {
+
+        Integer ordinal = ordinalById.get(doc.getId());
+
+        if (ordinal == null) {
+            ordinal = size++;
+            if (ordinal == docs.length) {
+                CandidateDocument[] grown = new CandidateDocument[docs.length * 2];
+                System.arraycopy(docs, 0, grown, 0, docs.length);
+                docs = grown;
+            }
+            ordinalById.put(doc.getId(), ordinal);
+        } else {
+            unindex(docs[ordinal], ordinal);
+        }
+
+        docs[ordinal] = doc;
+        index(doc, ordinal);
+
+        columns.get(SortField.TOTAL_EXPERIENCE).set(ordinal, doc.getTotalExperience());
+        columns.get(SortField.EXPECTED_CTC).set(ordinal, doc.getExpectedCTC());
+        columns.get(SortField.NOTICE_PERIOD).set(ordinal, doc.getNoticePeriod());
+        columns.get(SortField.AVAILABLE_FROM).set(ordinal, epochDay(doc.getAvailableFrom()));
+    }
+
+    private void index(CandidateDocument doc, int ordinal) {
+
+        for (String token : keywordTokens(doc)) {
+            keywordPostings.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+        }
+        for (String token : SearchTokenizer.tokenize(doc.getCurrentLocation())) {
+            currentLocationPostings.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+        }
+        for (String token : SearchTokenizer.tokenize(doc.getPreferredLocation())) {
+            preferredLocationPostings.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+        }
+        for (String skill : doc.getSkills()) {
+            skillPostings.computeIfAbsent(skill, s -> new BitSet()).set(ordinal);
+        }
+        if (doc.getNoticeStatus() != null) {
+            noticePostings.computeIfAbsent(doc.getNoticeStatus(), s -> new BitSet()).set(ordinal);
+        }
+        // NULL matches neither "= true" nor "= false" in SQL
+        if (doc.getImmediateJoiner() != null) {
+            (doc.getImmediateJoiner() ? immediateJoiners : notImmediateJoiners).set(ordinal);
+        }
+    }
+
+    private void unindex(CandidateDocument doc, int ordinal) {
+
+        for (String token : keywordTokens(doc)) {
+            clear(keywordPostings, token, ordinal);
+        }
+        for (String token : SearchTokenizer.tokenize(doc.getCurrentLocation())) {
+            clear(currentLocationPostings, token, ordinal);
+        }
+        for (String token : SearchTokenizer.tokenize(doc.getPreferredLocation())) {
+            clear(preferredLocationPostings, token, ordinal);
+        }
+        for (String skill : doc.getSkills()) {
+            clear(skillPostings, skill, ordinal);
+        }
+        if (doc.getNoticeStatus() != null) {
+            noticePostings.get(doc.getNoticeStatus()).clear(ordinal);
+        }
+        immediateJoiners.clear(ordinal);
+        notImmediateJoiners.clear(ordinal);
+    }
+
+    private static void clear(Map<String, BitSet> postings, String token, int ordinal) {
+        BitSet bits = postings.get(token);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static Set<String> keywordTokens(CandidateDocument doc) {
+        Set<String> tokens = SearchTokenizer.tokenize(doc.getName());
+        tokens.addAll(SearchTokenizer.tokenize(doc.getCurrentCompany()));
+        tokens.addAll(SearchTokenizer.tokenize(doc.getCurrentLocation()));
+        for (String skill : doc.getSkills()) {
+            tokens.addAll(SearchTokenizer.tokenize(skill));
+        }
+        return tokens;
+    }
+
+
+    // ==================================================
+    // SEARCH
+    // ==================================================
+    // Ids of the requested page in (sortBy, id DESC) order plus the exact total
+    public JobSearchResult search(JobSeekerSearchRequest request, String sortBy, boolean ascending, int page, int size) {
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(request);
+
+            long total = matches.cardinality();
+            long skip = (long) page * size;
+
+            if (skip >= total) {
+                return new JobSearchResult(List.of(), total);
+            }
+
+            // never keep more than there are matches, whatever size was asked for
+            int limit = (int) Math.min(skip + size, total);
+            int[] ordinals;
+
+            if (RELEVANCE.equals(sortBy)) {
+                ordinals = relevance(matches, request, limit);
+            } else if ("id".equals(sortBy)) {
+                ordinals = byOrdinal(matches, ascending, limit);
+            } else {
+                ordinals = topK(matches, columns.get(SortField.of(sortBy)), ascending, limit);
+            }
+
+            List<Long> ids = new ArrayList<>((int) (limit - skip));
+            for (int i = (int) skip; i < ordinals.length; i++) {
+                ids.add(docs[ordinals[i]].getId());
+            }
+            return new JobSearchResult(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(JobSeekerSearchRequest request) {
+
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+
+        for (String token : SearchTokenizer.tokenize(request.getKeyword())) {
+            result.and(JobSearchIndex.Segment.prefixUnion(keywordPostings, token));
+        }
+        for (String token : SearchTokenizer.tokenize(request.getCurrentLocation())) {
+            result.and(JobSearchIndex.Segment.prefixUnion(currentLocationPostings, token));
+        }
+        for (String token : SearchTokenizer.tokenize(request.getPreferredLocation())) {
+            result.and(JobSearchIndex.Segment.prefixUnion(preferredLocationPostings, token));
+        }
+
+        // any of the listed skills, like "LOWER(s.name) IN (...)"
+        if (request.getSkills() != null && !request.getSkills().isEmpty()) {
+            BitSet anySkill = new BitSet();
+            for (String skill : request.getSkills()) {
+                BitSet bits = skillPostings.get(SearchTokenizer.normalize(skill));
+                if (bits != null) {
+                    anySkill.or(bits);
+                }
+            }
+            result.and(anySkill);
+        }
+
+        if (request.getNoticeStatus() != null) {
+            result.and(noticePostings.getOrDefault(request.getNoticeStatus(), new BitSet()));
+        }
+        if (request.getImmediateJoiner() != null) {
+            result.and(request.getImmediateJoiner() ? immediateJoiners : notImmediateJoiners);
+        }
+
+        andRange(result, SortField.TOTAL_EXPERIENCE, request.getMinExperience(), request.getMaxExperience());
+        andRange(result, SortField.EXPECTED_CTC, request.getMinExpectedCTC(), request.getMaxExpectedCTC());
+        andRange(result, SortField.NOTICE_PERIOD, null, request.getMaxNoticePeriod());
+        andRange(result, SortField.AVAILABLE_FROM, null, epochDay(request.getAvailableBefore()));
+
+        return result;
+    }
+
+    private void andRange(BitSet result, SortField field, Number min, Number max) {
+        if ((min != null || max != null) && !result.isEmpty()) {
+            result.and(columns.get(field).range(
+                    min != null ? min.doubleValue() : null,
+                    max != null ? max.doubleValue() : null
+            ));
+        }
+    }
+
+    // Sorting by id is ordinal order: walk the bitmap
+    private static int[] byOrdinal(BitSet matches, boolean ascending, int limit) {
+
+        int[] result = new int[Math.min(limit, matches.cardinality())];
+        int n = 0;
+
+        if (ascending) {
+            for (int i = matches.nextSetBit(0); i >= 0 && n < result.length; i = matches.nextSetBit(i + 1)) {
+                result[n++] = i;
+            }
+        } else {
+            for (int i = matches.previousSetBit(matches.length() - 1); i >= 0 && n < result.length; i = matches.previousSetBit(i - 1)) {
+                result[n++] = i;
+            }
+        }
+        return result;
+    }
+
+    // Best `limit` ordinals by (value, ordinal DESC); NULLs sort lowest like MySQL
+    private static int[] topK(BitSet matches, SortedColumn column, boolean ascending, int limit) {
+
+        Comparator<Integer> byValue = Comparator.comparingDouble(ordinal -> sortValue(column, ordinal));
+        Comparator<Integer> best = (ascending ? byValue : byValue.reversed())
+                .thenComparing(Comparator.<Integer>naturalOrder().reversed());
+
+        // worst kept candidate at the head
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, best.reversed());
+
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            if (heap.size() < limit) {
+                heap.add(i);
+            } else if (best.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        int[] result = new int[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll();
+        }
+        return result;
+    }
+
+    // ==================================================
+    // RELEVANCE ("best match")
+    // ==================================================
+    /**
+     * Scores every match once while streaming it through a bounded
+     * {@link TopK} of {@code limit} entries; the match set itself is never
+     * materialized as a list or sorted.
+     *
+     * score = 4 · share of the requested skills held
+     *       + 1.5 · short notice (immediate = 1, 90+ days = 0)
+     *       + 1.5 · early availability (available now = 1, 90+ days out = 0)
+     *       + 1 · expected CTC headroom under the requested maximum
+     *       + 1 · requested location found in current or preferred location
+     */
+    private int[] relevance(BitSet matches, JobSeekerSearchRequest request, int limit) {
+
+        List<BitSet> skills = new ArrayList<>();
+        if (request.getSkills() != null) {
+            for (String skill : request.getSkills()) {
+                skills.add(skillPostings.getOrDefault(SearchTokenizer.normalize(skill), new BitSet()));
+            }
+        }
+
+        BitSet locationMatches = locationMatches(request);
+        Double budget = request.getMaxExpectedCTC();
+        long today = LocalDate.now().toEpochDay();
+
+        TopK top = new TopK(limit);
+
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+
+            CandidateDocument doc = docs[i];
+            double score = 0;
+
+            if (!skills.isEmpty()) {
+                int held = 0;
+                for (BitSet skill : skills) {
+                    if (skill.get(i)) {
+                        held++;
+                    }
+                }
+                score += SKILL_WEIGHT * held / skills.size();
+            }
+
+            boolean immediate = Boolean.TRUE.equals(doc.getImmediateJoiner())
+                    || doc.getNoticeStatus() == NoticeStatus.IMMEDIATE_JOINER;
+
+            if (immediate) {
+                score += NOTICE_WEIGHT + AVAILABILITY_WEIGHT;
+            } else {
+                if (doc.getNoticePeriod() != null) {
+                    score += NOTICE_WEIGHT * closeness(doc.getNoticePeriod());
+                }
+                LocalDate availableOn = doc.getLastWorkingDay() != null
+                        ? doc.getLastWorkingDay().plusDays(1)
+                        : doc.getAvailableFrom();
+                if (availableOn != null) {
+                    score += AVAILABILITY_WEIGHT * closeness(availableOn.toEpochDay() - today);
+                }
+            }
+
+            if (budget != null && budget > 0 && doc.getExpectedCTC() != null) {
+                score += CTC_WEIGHT * Math.max(0, Math.min(1, (budget - doc.getExpectedCTC()) / budget));
+            }
+
+            if (locationMatches != null && locationMatches.get(i)) {
+                score += LOCATION_WEIGHT;
+            }
+
+            // +1 keeps every match above the empty heap slots
+            top.offer((long) (score * SCORE_SCALE + 1) << 32 | i);
+        }
+
+        long[] best = top.sortedDescending();
+        int[] ordinals = new int[best.length];
+        for (int k = 0; k < best.length; k++) {
+            ordinals[k] = (int) best[k];
+        }
+        return ordinals;
+    }
+
+    // Candidates whose current OR preferred location has every requested location token
+    private BitSet locationMatches(JobSeekerSearchRequest request) {
+
+        String wanted = request.getPreferredLocation() != null
+                ? request.getPreferredLocation()
+                : request.getCurrentLocation();
+
+        Set<String> tokens = SearchTokenizer.tokenize(wanted);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        BitSet result = null;
+        for (String token : tokens) {
+            BitSet either = JobSearchIndex.Segment.prefixUnion(currentLocationPostings, token);
+            either.or(JobSearchIndex.Segment.prefixUnion(preferredLocationPostings, token));
+            if (result == null) {
+                result = either;
+            } else {
+                result.and(either);
+            }
+        }
+        return result;
+    }
+
+    // 1 for 0 days (or already past), falling linearly to 0 at the horizon
+    private static double closeness(long days) {
+        return 1 - Math.min(Math.max(days, 0), HORIZON_DAYS) / HORIZON_DAYS;
+    }
+
+    private static double sortValue(SortedColumn column, int ordinal) {
+        double value = column.get(ordinal);
+        return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+    }
+
+    private static Long epochDay(LocalDate date) {
+        return date != null ? date.toEpochDay() : null;
+    }
+}
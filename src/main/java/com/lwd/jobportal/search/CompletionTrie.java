@@ -0,0 +1,178 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable compressed (radix) trie over a vocabulary of weighted terms.
+ *
+ * Keys are normalized (trimmed, lower-cased) values; labels are the
+ * spelling returned to the client. Every node stores the indices of the
+ * best {@code topK} terms below it, so a lookup costs one walk down the
+ * prefix and no scan of the subtree.
+ */
+final class CompletionTrie {
+
+    static final CompletionTrie EMPTY = build(List.of(), 1);
+
+    private final String[] labels;
+    private final Node root;
+
+    private CompletionTrie(String[] labels, Node root) {
+        this.labels = labels;
+        this.root = root;
+    }
+
+    static CompletionTrie build(Collection<Term> terms, int topK) {
+
+        Term[] sorted = terms.toArray(Term[]::new);
+        Arrays.sort(sorted, Comparator.comparing(Term::key));
+
+        String[] keys = new String[sorted.length];
+        String[] labels = new String[sorted.length];
+        long[] weights = new long[sorted.length];
+
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = sorted[i].key();
+            labels[i] = sorted[i].label();
+            weights[i] = sorted[i].weight();
+        }
+
+        Builder builder = new Builder(keys, weights, topK);
+        Node root = builder.build("", 0, keys.length, 0);
+
+        return new CompletionTrie(labels, root);
+    }
+
+    // Best completions of an already normalized prefix, highest weight first
+    List<String> complete(String prefix, int limit) {
+
+        Node node = root;
+        int i = 0;
+
+        while (i < prefix.length()) {
+
+            node = node.child(prefix.charAt(i));
+            if (node == null) {
+                return List.of();
+            }
+
+            int overlap = Math.min(node.edge.length(), prefix.length() - i);
+            if (!prefix.regionMatches(i, node.edge, 0, overlap)) {
+                return List.of();
+            }
+            i += overlap;
+        }
+
+        List<String> result = new ArrayList<>(Math.min(limit, node.top.length));
+        for (int t = 0; t < node.top.length && result.size() < limit; t++) {
+            result.add(labels[node.top[t]]);
+        }
+        return result;
+    }
+
+
+    record Term(String key, String label, long weight) {}
+
+
+    // ================= NODE =================
+    private static final class Node {
+
+        final String edge;
+        final char[] firsts;
+        final Node[] children;
+        final int[] top;
+
+        Node(String edge, char[] firsts, Node[] children, int[] top) {
+            this.edge = edge;
+            this.firsts = firsts;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(firsts, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+
+    // ================= BUILDER =================
+    // Builds the trie from keys sorted ascending (no duplicates)
+    private static final class Builder {
+
+        private final String[] keys;
+        private final long[] weights;
+        private final int topK;
+
+        Builder(String[] keys, long[] weights, int topK) {
+            this.keys = keys;
+            this.weights = weights;
+            this.topK = topK;
+        }
+
+        // keys[from, to) all share the first `depth` characters
+        Node build(String edge, int from, int to, int depth) {
+
+            List<Integer> candidates = new ArrayList<>();
+            List<Character> firsts = new ArrayList<>();
+            List<Node> children = new ArrayList<>();
+
+            int start = from;
+            if (start < to && keys[start].length() == depth) {
+                candidates.add(start);
+                start++;
+            }
+
+            while (start < to) {
+
+                char c = keys[start].charAt(depth);
+
+                int end = start + 1;
+                while (end < to && keys[end].charAt(depth) == c) {
+                    end++;
+                }
+
+                // Path compression: follow the common prefix of the group
+                int shared = commonPrefix(keys[start], keys[end - 1]);
+
+                Node child = build(keys[start].substring(depth, shared), start, end, shared);
+
+                firsts.add(c);
+                children.add(child);
+                for (int index : child.top) {
+                    candidates.add(index);
+                }
+
+                start = end;
+            }
+
+            char[] firstChars = new char[firsts.size()];
+            for (int i = 0; i < firstChars.length; i++) {
+                firstChars[i] = firsts.get(i);
+            }
+
+            int[] top = candidates.stream()
+                    .sorted((a, b) -> weights[a] != weights[b]
+                            ? Long.compare(weights[b], weights[a])
+                            : Integer.compare(a, b))
+                    .limit(topK)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            return new Node(edge, firstChars, children.toArray(Node[]::new), top);
+        }
+
+        private static int commonPrefix(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column store used for faceting, one slot per index ordinal.
+ *
+ * Categorical values are dictionary encoded into int codes (-1 = missing);
+ * experience and notice period are plain int columns.
+ * Not thread-safe: owned by a JobSearchIndex segment and guarded by its lock.
+ */
+final class FacetColumns {
+
+    static final int MISSING = -1;
+
+    // Experience bands on Job.minExperience: label + inclusive upper bound
+    static final String[] EXPERIENCE_BANDS = {"0-2", "3-5", "6-10", "10+"};
+    private static final int[] EXPERIENCE_UPPER = {2, 5, 10, Integer.MAX_VALUE};
+
+    final Dictionary industries = new Dictionary();
+    final Dictionary locations = new Dictionary();
+
+    int[] industry = new int[0];
+    int[] location = new int[0];
+    int[] jobType = new int[0];
+    int[] notice = new int[0];
+    int[] experienceBand = new int[0];
+    int[] minExperience = new int[0];
+    int[] maxExperience = new int[0];
+    int[] maxNoticePeriod = new int[0];
+
+    void set(int ordinal, JobDocument doc) {
+
+        ensureCapacity(ordinal + 1);
+
+        industry[ordinal] = industries.encode(doc.getIndustry());
+        location[ordinal] = locations.encode(doc.getLocation());
+        jobType[ordinal] = doc.getJobType() != null ? doc.getJobType().ordinal() : MISSING;
+        notice[ordinal] = doc.getNoticePreference() != null ? doc.getNoticePreference().ordinal() : MISSING;
+        experienceBand[ordinal] = band(doc.getMinExperience());
+        minExperience[ordinal] = orMissing(doc.getMinExperience());
+        maxExperience[ordinal] = orMissing(doc.getMaxExperience());
+        maxNoticePeriod[ordinal] = orMissing(doc.getMaxNoticePeriod());
+    }
+
+    private void ensureCapacity(int needed) {
+
+        if (needed <= industry.length) {
+            return;
+        }
+
+        int capacity = Math.max(needed, Math.max(1024, industry.length * 2));
+
+        industry = Arrays.copyOf(industry, capacity);
+        location = Arrays.copyOf(location, capacity);
+        jobType = Arrays.copyOf(jobType, capacity);
+        notice = Arrays.copyOf(notice, capacity);
+        experienceBand = Arrays.copyOf(experienceBand, capacity);
+        minExperience = Arrays.copyOf(minExperience, capacity);
+        maxExperience = Arrays.copyOf(maxExperience, capacity);
+        maxNoticePeriod = Arrays.copyOf(maxNoticePeriod, capacity);
+    }
+
+    static int band(Integer minExperience) {
+        if (minExperience == null) {
+            return MISSING;
+        }
+        for (int i = 0; i < EXPERIENCE_UPPER.length; i++) {
+            if (minExperience <= EXPERIENCE_UPPER[i]) {
+                return i;
+            }
+        }
+        return MISSING;
+    }
+
+    private static int orMissing(Integer value) {
+        return value != null ? value : MISSING;
+    }
+
+
+    // ================= DICTIONARY =================
+    // Case-insensitive; keeps the first spelling seen as the display label
+    static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> labels = new ArrayList<>();
+
+        int encode(String value) {
+
+            if (value == null || value.isBlank()) {
+                return MISSING;
+            }
+
+            return codes.computeIfAbsent(SearchTokenizer.normalize(value), key -> {
+                labels.add(value.trim());
+                return labels.size() - 1;
+            });
+        }
+
+        String label(int code) {
+            return labels.get(code);
+        }
+
+        int size() {
+            return labels.size();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.repository.JobRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Search-box suggestions over the titles, locations, company names and
+ * industries of OPEN jobs.
+ *
+ * Each field keeps a count of open jobs per value (the suggestion weight)
+ * and a {@link CompletionTrie} built from those counts. A job change only
+ * updates the counts and marks the fields whose value actually changed;
+ * a scheduled refresh rebuilds each dirty trie once, so a burst of changes
+ * (a company rename touches every open job) costs one rebuild per field,
+ * off the committing thread. The new tries are published together by
+ * swapping one volatile reference, so readers never lock and never see a
+ * half-built vocabulary.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobAutocomplete {
+
+    private static final int TOP_K = 10;
+
+    private final JobRepository jobRepository;
+
+    // ===== guarded by this =====
+    private final Map<Field, Vocabulary> vocabularies = new EnumMap<>(Field.class);
+    // the version of each open job the counts include; replaying an event
+    // is compared against it, never against event.getBefore()
+    private final Map<Long, JobDocument> counted = new HashMap<>();
+    private final Set<Field> dirty = EnumSet.noneOf(Field.class);
+    private List<JobChangedEvent> changesWhileLoading;
+
+    // one trie build + swap at a time
+    private final Object publishLock = new Object();
+
+    private volatile Map<Field, CompletionTrie> tries = emptyTries();
+    private volatile boolean ready = false;
+
+
+    enum Field {
+
+        TITLE(JobDocument::getTitle),
+        LOCATION(JobDocument::getLocation),
+        COMPANY(JobDocument::getCompanyName),
+        INDUSTRY(JobDocument::getIndustry);
+
+        private final Function<JobDocument, String> value;
+
+        Field(Function<JobDocument, String> value) {
+            this.value = value;
+        }
+    }
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        synchronized (this) {
+            changesWhileLoading = new ArrayList<>();
+        }
+
+        List<JobDocument> documents = null;
+        try {
+            documents = jobRepository.findSearchableDocuments();
+        } catch (RuntimeException ex) {
+            log.error("Job autocomplete could not be loaded, falling back to SQL suggestions", ex);
+        }
+
+        synchronized (this) {
+            if (documents != null) {
+                for (Field field : Field.values()) {
+                    vocabularies.put(field, new Vocabulary());
+                }
+                for (JobDocument doc : documents) {
+                    counted.put(doc.getId(), doc);
+                    for (Field field : Field.values()) {
+                        vocabularies.get(field).add(field.value.apply(doc));
+                    }
+                }
+                // replay whatever was committed while we were reading
+                for (JobChangedEvent event : changesWhileLoading) {
+                    apply(event);
+                }
+                dirty.addAll(EnumSet.allOf(Field.class));
+            }
+            changesWhileLoading = null;
+        }
+
+        if (documents != null) {
+            refresh();
+            ready = true;
+            log.info("Job autocomplete loaded from {} open jobs", documents.size());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    // ==================================================
+    // INCREMENTAL UPDATES
+    // ==================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+
+        if (changesWhileLoading != null) {
+            changesWhileLoading.add(event);
+        }
+        if (vocabularies.isEmpty()) {
+            return;
+        }
+
+        dirty.addAll(apply(event));
+    }
+
+    // Idempotent: an event the load snapshot already contains changes nothing
+    private Set<Field> apply(JobChangedEvent event) {
+
+        Set<Field> changed = EnumSet.noneOf(Field.class);
+
+        JobDocument previous = event.isSearchable()
+                ? counted.put(event.getJobId(), event.getAfter())
+                : counted.remove(event.getJobId());
+
+        for (Field field : Field.values()) {
+
+            String before = previous != null ? field.value.apply(previous) : null;
+            String after = event.isSearchable() ? field.value.apply(event.getAfter()) : null;
+
+            if (Objects.equals(SearchTokenizer.normalize(before), SearchTokenizer.normalize(after))) {
+                continue;
+            }
+
+            Vocabulary vocabulary = vocabularies.get(field);
+            vocabulary.remove(before);
+            vocabulary.add(after);
+            changed.add(field);
+        }
+        return changed;
+    }
+
+    // Rebuild only the dirty fields, then swap all tries at once
+    @Scheduled(
+            fixedDelayString = "${lwd.autocomplete.refresh-interval-ms:1000}",
+            initialDelayString = "${lwd.autocomplete.refresh-interval-ms:1000}"
+    )
+    public void refresh() {
+
+        synchronized (publishLock) {
+
+            Map<Field, List<CompletionTrie.Term>> changed = new EnumMap<>(Field.class);
+
+            synchronized (this) {
+                for (Field field : dirty) {
+                    changed.put(field, vocabularies.get(field).terms());
+                }
+                dirty.clear();
+            }
+
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            Map<Field, CompletionTrie> next = new EnumMap<>(tries);
+            changed.forEach((field, terms) -> next.put(field, CompletionTrie.build(terms, TOP_K)));
+            tries = next;
+        }
+    }
+
+
+    // ==================================================
+    // SUGGEST
+    // ==================================================
+    // Up to `perField` completions from each field, fields in declaration order
+    public List<String> suggest(String keyword, int perField, int limit) {
+
+        String prefix = SearchTokenizer.normalize(keyword);
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Field, CompletionTrie> snapshot = tries;
+        Set<String> suggestions = new LinkedHashSet<>();
+
+        for (Field field : Field.values()) {
+            suggestions.addAll(snapshot.get(field).complete(prefix, perField));
+        }
+
+        return suggestions.stream()
+                .limit(limit)
+                .toList();
+    }
+
+
+    private static Map<Field, CompletionTrie> emptyTries() {
+        Map<Field, CompletionTrie> empty = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            empty.put(field, CompletionTrie.EMPTY);
+        }
+        return empty;
+    }
+
+
+    // ================= VOCABULARY =================
+    // Open-job count per normalized value; keeps the first spelling seen
+    private static final class Vocabulary {
+
+        private final Map<String, CompletionTrie.Term> terms = new HashMap<>();
+
+        void add(String value) {
+
+            if (value == null || value.isBlank()) {
+                return;
+            }
+
+            terms.merge(
+                    SearchTokenizer.normalize(value),
+                    new CompletionTrie.Term(SearchTokenizer.normalize(value), value.trim(), 1),
+                    (current, one) -> new CompletionTrie.Term(current.key(), current.label(), current.weight() + 1)
+            );
+        }
+
+        void remove(String value) {
+
+            if (value == null || value.isBlank()) {
+                return;
+            }
+
+            terms.computeIfPresent(
+                    SearchTokenizer.normalize(value),
+                    (key, current) -> current.weight() > 1
+                            ? new CompletionTrie.Term(key, current.label(), current.weight() - 1)
+                            : null
+            );
+        }
+
+        List<CompletionTrie.Term> terms() {
+            return new ArrayList<>(terms.values());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDateTime;
+
+import com.lwd.jobportal.entity.Company;
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.enums.JobStatus;
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the searchable fields of a {@link Job}.
+ * Built inside the transaction that changed the job so listeners
+ * never have to touch lazy associations after commit.
+ */
+@Getter
+@AllArgsConstructor
+public class JobDocument {
+
+    private final Long id;
+    private final String title;
+    private final String location;
+    private final String industry;
+    private final Long companyId;
+    private final String companyName;
+    private final JobType jobType;
+    private final Integer minExperience;
+    private final Integer maxExperience;
+    private final NoticeStatus noticePreference;
+    private final Integer maxNoticePeriod;
+    private final Boolean lwdPreferred;
+    private final JobStatus status;
+    private final Boolean deleted;
+    private final LocalDateTime createdAt;
+
+    public static JobDocument from(Job job) {
+
+        Company company = job.getCompany();
+
+        return new JobDocument(
+                job.getId(),
+                job.getTitle(),
+                job.getLocation(),
+                job.getIndustry(),
+                company != null ? company.getId() : null,
+                company != null ? company.getCompanyName() : null,
+                job.getJobType(),
+                job.getMinExperience(),
+                job.getMaxExperience(),
+                job.getNoticePreference(),
+                job.getMaxNoticePeriod(),
+                job.getLwdPreferred(),
+                job.getStatus(),
+                job.getDeleted(),
+                job.getCreatedAt()
+        );
+    }
+
+    // Same job as seen under another company name (company rename)
+    public JobDocument withCompanyName(String name) {
+        return new JobDocument(
+                id, title, location, industry, companyId, name,
+                jobType, minExperience, maxExperience,
+                noticePreference, maxNoticePeriod, lwdPreferred,
+                status, deleted, createdAt
+        );
+    }
+
+    // OPEN and not soft-deleted → visible to the public
+    public boolean isSearchable() {
+        return status == JobStatus.OPEN && !Boolean.TRUE.equals(deleted);
+    }
+}
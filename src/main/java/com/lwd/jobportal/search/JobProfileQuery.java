@@ -0,0 +1,45 @@
+package com.lwd.jobportal.search;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Weighted description of what a job seeker is looking for, scored
+ * against open jobs by {@link JobSearchIndex#recommend}.
+ *
+ * Token weights are added for every job whose keyword / industry /
+ * location tokens contain the (exact) token.
+ */
+@Getter
+@Builder
+public class JobProfileQuery {
+
+    @Singular
+    private final Map<String, Double> keywordTokens;
+    @Singular
+    private final Map<String, Double> industryTokens;
+    @Singular
+    private final Map<String, Double> locationTokens;
+    @Singular
+    private final Map<JobType, Double> jobTypes;
+
+    private final Integer experience;
+    private final NoticeStatus noticeStatus;
+
+    // already applied → never recommended again
+    private final Set<Long> excludedJobIds;
+
+    public boolean isEmpty() {
+        return keywordTokens.isEmpty()
+                && industryTokens.isEmpty()
+                && locationTokens.isEmpty()
+                && jobTypes.isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package com.lwd.jobportal.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.repository.JobApplicationRepository;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds the {@link JobProfileQuery} of a job seeker.
+ *
+ * Features come from the most recent applications (each one weighing
+ * {@value #HISTORY_DECAY} of the next newer one) and from the profile:
+ * skills and preferred location are matched against job tokens, total
+ * experience and notice status adjust the fit.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobRecommender {
+
+    private static final int HISTORY_SIZE = 20;
+    private static final double HISTORY_DECAY = 0.85;
+
+    // per applied job (before decay)
+    private static final double INDUSTRY_WEIGHT = 3.0;
+    private static final double TITLE_WEIGHT = 1.5;
+    private static final double LOCATION_WEIGHT = 1.0;
+    private static final double JOB_TYPE_WEIGHT = 0.5;
+
+    // profile
+    private static final double SKILL_WEIGHT = 2.0;
+    private static final double PREFERRED_LOCATION_WEIGHT = 2.0;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobSeekerRepository jobSeekerRepository;
+
+
+    @Transactional(readOnly = true)
+    public JobProfileQuery profileOf(Long userId) {
+
+        Map<String, Double> keywords = new HashMap<>();
+        Map<String, Double> industries = new HashMap<>();
+        Map<String, Double> locations = new HashMap<>();
+        Map<JobType, Double> jobTypes = new HashMap<>();
+
+        // ================= APPLICATION HISTORY =================
+        List<JobDocument> history = jobApplicationRepository.findRecentAppliedJobs(userId, Limit.of(HISTORY_SIZE));
+
+        double recency = 1.0;
+        for (JobDocument job : history) {
+
+            addTokens(keywords, job.getTitle(), TITLE_WEIGHT * recency);
+            addTokens(industries, job.getIndustry(), INDUSTRY_WEIGHT * recency);
+            addTokens(locations, job.getLocation(), LOCATION_WEIGHT * recency);
+
+            if (job.getJobType() != null) {
+                jobTypes.merge(job.getJobType(), JOB_TYPE_WEIGHT * recency, Double::sum);
+            }
+            recency *= HISTORY_DECAY;
+        }
+
+        // ================= PROFILE =================
+        JobSeeker seeker = jobSeekerRepository.findWithSkillsByUserId(userId).orElse(null);
+
+        if (seeker != null) {
+            if (seeker.getSkills() != null) {
+                for (Skill skill : seeker.getSkills()) {
+                    addTokens(keywords, skill.getName(), SKILL_WEIGHT);
+                }
+            }
+            addTokens(locations, seeker.getPreferredLocation(), PREFERRED_LOCATION_WEIGHT);
+        }
+
+        // only a full id list can exclude applied jobs beyond the history window
+        Set<Long> applied = history.size() < HISTORY_SIZE
+                ? collectIds(history)
+                : new HashSet<>(jobApplicationRepository.findAppliedJobIds(userId));
+
+        return JobProfileQuery.builder()
+                .keywordTokens(keywords)
+                .industryTokens(industries)
+                .locationTokens(locations)
+                .jobTypes(jobTypes)
+                .experience(seeker != null ? seeker.getTotalExperience() : null)
+                .noticeStatus(seeker != null ? seeker.getNoticeStatus() : null)
+                .excludedJobIds(applied)
+                .build();
+    }
+
+
+    // ================= HELPERS =================
+    private static void addTokens(Map<String, Double> weights, String text, double weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            weights.merge(token, weight, Double::sum);
+        }
+    }
+
+    private static Set<Long> collectIds(List<JobDocument> jobs) {
+        Set<Long> ids = new HashSet<>();
+        for (JobDocument job : jobs) {
+            ids.add(job.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,752 @@
+package com.lwd.jobportal.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.dto.jobdto.JobFacetsResponse;
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.repository.JobRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index over every OPEN, non-deleted job.
+ *
+ * Every job gets an ordinal; ordinals are handed out in (createdAt, id)
+ * order, so walking a result bitmap from the highest bit down yields
+ * "newest first" without sorting. Posting lists are bitmaps over ordinals:
+ *
+ *  - keyword tokens (title, location, industry, company name, job type)
+ *  - location / industry / company tokens for the LIKE style filters
+ *  - jobType, noticePreference and lwdPreferred values
+ *
+ * Text matching is token-prefix based: "java dev" matches jobs having a
+ * token starting with "java" AND a token starting with "dev".
+ *
+ * The index is loaded once the application is ready and kept in sync from
+ * {@link JobChangedEvent}s after commit. Until it is ready callers fall back
+ * to the SQL search.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex {
+
+    private static final Comparator<JobDocument> NEWEST_LAST =
+            Comparator.comparing(JobDocument::getCreatedAt)
+                    .thenComparing(JobDocument::getId);
+
+    private final JobRepository jobRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ===== guarded by lock =====
+    private Segment segment = new Segment();
+    private List<JobChangedEvent> changesWhileLoading;
+
+    private volatile boolean ready = false;
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        lock.writeLock().lock();
+        try {
+            changesWhileLoading = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = null;
+        try {
+            fresh = Segment.of(jobRepository.findSearchableDocuments());
+        } catch (RuntimeException ex) {
+            log.error("Job search index could not be loaded, falling back to SQL search", ex);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (fresh != null) {
+                // replay whatever was committed while we were reading
+                for (JobChangedEvent event : changesWhileLoading) {
+                    fresh.apply(event);
+                }
+                segment = fresh;
+                ready = true;
+                log.info("Job search index loaded with {} open jobs", fresh.liveCount());
+            }
+            changesWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    // ==================================================
+    // INCREMENTAL UPDATES
+    // ==================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            if (changesWhileLoading != null) {
+                changesWhileLoading.add(event);
+            }
+            segment.apply(event);
+
+            if (segment.needsRebuild()) {
+                segment = Segment.of(segment.liveDocuments());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    // ==================================================
+    // SEARCH
+    // ==================================================
+    public JobSearchResult search(JobSearchQuery query, int page, int size) {
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = segment.match(query);
+
+            long total = matches.cardinality();
+            long skip = (long) page * size;
+
+            List<Long> ids = new ArrayList<>(size);
+
+            for (int ordinal = matches.previousSetBit(segment.size - 1);
+                 ordinal >= 0 && ids.size() < size;
+                 ordinal = matches.previousSetBit(ordinal - 1)) {
+
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                ids.add(segment.docs[ordinal].getId());
+            }
+
+            return new JobSearchResult(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    // Keyset variant: up to `limit` ids strictly older than (createdAt, id)
+    public List<Long> searchBefore(JobSearchQuery query, LocalDateTime createdAt, Long id, int limit) {
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = segment.match(query);
+
+            List<Long> ids = new ArrayList<>(limit);
+
+            for (int ordinal = matches.previousSetBit(segment.firstOrdinalBefore(createdAt, id));
+                 ordinal >= 0 && ids.size() < limit;
+                 ordinal = matches.previousSetBit(ordinal - 1)) {
+
+                ids.add(segment.docs[ordinal].getId());
+            }
+
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    // ==================================================
+    // FACETS
+    // ==================================================
+    public JobFacetsResponse facets(JobSearchQuery query, int limit) {
+
+        lock.readLock().lock();
+        try {
+            return segment.facets(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    // ==================================================
+    // RECOMMENDATIONS
+    // ==================================================
+    // Ids of the requested page, best score first (newest first on ties)
+    public JobSearchResult recommend(JobProfileQuery query, int page, int size) {
+
+        lock.readLock().lock();
+        try {
+            return segment.recommend(query, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    // ==================================================
+    // SEGMENT (posting lists + stored documents)
+    // ==================================================
+    static final class Segment {
+
+        private final Map<Long, Integer> ordinalById = new HashMap<>();
+        private JobDocument[] docs = new JobDocument[1024];
+        private int size;
+        private boolean outOfOrder;
+
+        private final BitSet live = new BitSet();
+
+        private final TreeMap<String, BitSet> keywordPostings = new TreeMap<>();
+        private final TreeMap<String, BitSet> locationPostings = new TreeMap<>();
+        private final TreeMap<String, BitSet> industryPostings = new TreeMap<>();
+        private final TreeMap<String, BitSet> companyPostings = new TreeMap<>();
+
+        private final EnumMap<JobType, BitSet> jobTypePostings = new EnumMap<>(JobType.class);
+        private final EnumMap<NoticeStatus, BitSet> noticePostings = new EnumMap<>(NoticeStatus.class);
+        private final BitSet lwdPreferred = new BitSet();
+
+        private final FacetColumns columns = new FacetColumns();
+
+        static Segment of(List<JobDocument> documents) {
+
+            Segment segment = new Segment();
+
+            documents.stream()
+                    .filter(JobDocument::isSearchable)
+                    .sorted(NEWEST_LAST)
+                    .forEach(segment::put);
+
+            return segment;
+        }
+
+        void apply(JobChangedEvent event) {
+            if (event.isSearchable()) {
+                put(event.getAfter());
+            } else {
+                remove(event.getJobId());
+            }
+        }
+
+        int liveCount() {
+            return live.cardinality();
+        }
+
+        List<JobDocument> liveDocuments() {
+            List<JobDocument> result = new ArrayList<>(liveCount());
+            for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) {
+                result.add(docs[i]);
+            }
+            return result;
+        }
+
+        // Highest ordinal whose (createdAt, id) sorts before the cursor, -1 if none
+        int firstOrdinalBefore(LocalDateTime createdAt, Long id) {
+
+            int low = 0;
+            int high = size - 1;
+            int found = -1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                JobDocument doc = docs[mid];
+
+                int cmp = doc.getCreatedAt().compareTo(createdAt);
+                if (cmp == 0) {
+                    cmp = doc.getId().compareTo(id);
+                }
+
+                if (cmp < 0) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        // Re-number when ordinals no longer follow createdAt or too many are dead
+        boolean needsRebuild() {
+            return outOfOrder || size > 1024 && size > 2 * liveCount();
+        }
+
+        void put(JobDocument doc) {
+
+            Integer ordinal = ordinalById.get(doc.getId());
+
+            if (ordinal == null) {
+                ordinal = size++;
+
+                if (ordinal > 0 && NEWEST_LAST.compare(docs[ordinal - 1], doc) > 0) {
+                    outOfOrder = true;
+                }
+                if (ordinal == docs.length) {
+                    JobDocument[] grown = new JobDocument[docs.length * 2];
+                    System.arraycopy(docs, 0, grown, 0, docs.length);
+                    docs = grown;
+                }
+                ordinalById.put(doc.getId(), ordinal);
+
+            } else if (live.get(ordinal)) {
+                unindex(docs[ordinal], ordinal);
+            }
+
+            docs[ordinal] = doc;
+            index(doc, ordinal);
+            columns.set(ordinal, doc);
+            live.set(ordinal);
+        }
+
+        void remove(Long jobId) {
+
+            Integer ordinal = ordinalById.get(jobId);
+
+            if (ordinal == null || !live.get(ordinal)) {
+                return;
+            }
+
+            unindex(docs[ordinal], ordinal);
+            live.clear(ordinal);
+        }
+
+        private void index(JobDocument doc, int ordinal) {
+
+            for (String token : keywordTokens(doc)) {
+                keywordPostings.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+            }
+            for (String token : SearchTokenizer.tokenize(doc.getLocation())) {
+                locationPostings.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+            }
+            for (String token : SearchTokenizer.tokenize(doc.getIndustry())) {
+                industryPostings.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+            }
+            for (String token : SearchTokenizer.tokenize(doc.getCompanyName())) {
+                companyPostings.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+            }
+            if (doc.getJobType() != null) {
+                jobTypePostings.computeIfAbsent(doc.getJobType(), t -> new BitSet()).set(ordinal);
+            }
+            if (doc.getNoticePreference() != null) {
+                noticePostings.computeIfAbsent(doc.getNoticePreference(), t -> new BitSet()).set(ordinal);
+            }
+            if (Boolean.TRUE.equals(doc.getLwdPreferred())) {
+                lwdPreferred.set(ordinal);
+            }
+        }
+
+        private void unindex(JobDocument doc, int ordinal) {
+
+            for (String token : keywordTokens(doc)) {
+                clear(keywordPostings, token, ordinal);
+            }
+            for (String token : SearchTokenizer.tokenize(doc.getLocation())) {
+                clear(locationPostings, token, ordinal);
+            }
+            for (String token : SearchTokenizer.tokenize(doc.getIndustry())) {
+                clear(industryPostings, token, ordinal);
+            }
+            for (String token : SearchTokenizer.tokenize(doc.getCompanyName())) {
+                clear(companyPostings, token, ordinal);
+            }
+            if (doc.getJobType() != null) {
+                jobTypePostings.get(doc.getJobType()).clear(ordinal);
+            }
+            if (doc.getNoticePreference() != null) {
+                noticePostings.get(doc.getNoticePreference()).clear(ordinal);
+            }
+            lwdPreferred.clear(ordinal);
+        }
+
+        private static void clear(Map<String, BitSet> postings, String token, int ordinal) {
+            BitSet bits = postings.get(token);
+            if (bits != null) {
+                bits.clear(ordinal);
+                if (bits.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+
+        static Set<String> keywordTokens(JobDocument doc) {
+            Set<String> tokens = SearchTokenizer.tokenize(doc.getTitle());
+            tokens.addAll(SearchTokenizer.tokenize(doc.getLocation()));
+            tokens.addAll(SearchTokenizer.tokenize(doc.getIndustry()));
+            tokens.addAll(SearchTokenizer.tokenize(doc.getCompanyName()));
+            if (doc.getJobType() != null) {
+                tokens.addAll(SearchTokenizer.tokenize(doc.getJobType().name()));
+            }
+            return tokens;
+        }
+
+        // ==================================================
+        // MATCHING
+        // ==================================================
+        BitSet match(JobSearchQuery query) {
+
+            BitSet result = (BitSet) live.clone();
+
+            andTokens(result, keywordPostings, query.getKeyword());
+            andTokens(result, locationPostings, query.getLocation());
+            andTokens(result, industryPostings, query.getIndustry());
+            andTokens(result, companyPostings, query.getCompanyName());
+
+            if (query.getJobType() != null) {
+                result.and(jobTypePostings.getOrDefault(query.getJobType(), new BitSet()));
+            }
+            if (query.getNoticePreference() != null) {
+                result.and(noticePostings.getOrDefault(query.getNoticePreference(), new BitSet()));
+            }
+            if (query.getLwdPreferred() != null) {
+                if (query.getLwdPreferred()) {
+                    result.and(lwdPreferred);
+                } else {
+                    result.andNot(lwdPreferred);
+                }
+            }
+
+            // Range filters are checked against the stored documents
+            if (query.getMinExp() != null
+                    || query.getMaxExp() != null
+                    || query.getMaxNoticePeriod() != null) {
+
+                for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                    if (!matchesRanges(docs[i], query)) {
+                        result.clear(i);
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        private static void andTokens(BitSet result, TreeMap<String, BitSet> postings, String text) {
+            for (String token : SearchTokenizer.tokenize(text)) {
+                if (result.isEmpty()) {
+                    return;
+                }
+                result.and(prefixUnion(postings, token));
+            }
+        }
+
+        static BitSet prefixUnion(TreeMap<String, BitSet> postings, String prefix) {
+
+            NavigableMap<String, BitSet> range =
+                    postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+
+            BitSet union = new BitSet();
+            for (BitSet bits : range.values()) {
+                union.or(bits);
+            }
+            return union;
+        }
+
+        // ==================================================
+        // PROFILE SCORING (term at a time over the postings)
+        // ==================================================
+        private static final double EXPERIENCE_FIT = 1.5;
+        private static final double EXPERIENCE_MISS = -2.0;
+        private static final double NOTICE_FIT = 0.5;
+
+        JobSearchResult recommend(JobProfileQuery query, int page, int pageSize) {
+
+            // one slot per ordinal of the segment
+            double[] scores = new double[size];
+
+            accumulate(scores, keywordPostings, query.getKeywordTokens());
+            accumulate(scores, industryPostings, query.getIndustryTokens());
+            accumulate(scores, locationPostings, query.getLocationTokens());
+
+            query.getJobTypes().forEach((jobType, weight) -> {
+                BitSet bits = jobTypePostings.get(jobType);
+                if (bits != null) {
+                    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                        scores[i] += weight;
+                    }
+                }
+            });
+
+            // Best (page + 1) * pageSize candidates; worst on top of the heap
+            int wanted = (int) Math.min((long) (page + 1) * pageSize, Integer.MAX_VALUE);
+            Comparator<Integer> worstFirst = Comparator
+                    .<Integer>comparingDouble(i -> scores[i])
+                    .thenComparingInt(i -> i);
+            PriorityQueue<Integer> best = new PriorityQueue<>(worstFirst);
+
+            long total = 0;
+
+            for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) {
+
+                // Only jobs matching at least one profile feature are candidates
+                if (scores[i] <= 0 || query.getExcludedJobIds().contains(docs[i].getId())) {
+                    continue;
+                }
+
+                scores[i] += fitAdjustment(i, query);
+                if (scores[i] <= 0) {
+                    continue;
+                }
+
+                total++;
+                best.add(i);
+                if (best.size() > wanted) {
+                    best.poll();
+                }
+            }
+
+            List<Integer> ranked = new ArrayList<>(best);
+            ranked.sort(worstFirst.reversed());
+
+            List<Long> ids = ranked.stream()
+                    .skip((long) page * pageSize)
+                    .map(i -> docs[i].getId())
+                    .toList();
+
+            return new JobSearchResult(ids, total);
+        }
+
+        private static void accumulate(double[] scores, TreeMap<String, BitSet> postings, Map<String, Double> weights) {
+            weights.forEach((token, weight) -> {
+                BitSet bits = postings.get(token);
+                if (bits != null) {
+                    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                        scores[i] += weight;
+                    }
+                }
+            });
+        }
+
+        // Experience range and notice compatibility from the columns
+        private double fitAdjustment(int ordinal, JobProfileQuery query) {
+
+            double adjustment = 0;
+
+            if (query.getExperience() != null) {
+                int min = columns.minExperience[ordinal];
+                int max = columns.maxExperience[ordinal];
+                int years = query.getExperience();
+
+                boolean aboveMin = min == FacetColumns.MISSING || years >= min;
+                boolean belowMax = max == FacetColumns.MISSING || years <= max;
+
+                adjustment += aboveMin && belowMax ? EXPERIENCE_FIT : EXPERIENCE_MISS;
+            }
+
+            if (query.getNoticeStatus() != null) {
+                int wanted = columns.notice[ordinal];
+                if (wanted == FacetColumns.MISSING
+                        || wanted == NoticeStatus.ANY.ordinal()
+                        || wanted == query.getNoticeStatus().ordinal()) {
+                    adjustment += NOTICE_FIT;
+                }
+                if (lwdPreferred.get(ordinal) && query.getNoticeStatus() == NoticeStatus.SERVING_NOTICE) {
+                    adjustment += NOTICE_FIT;
+                }
+            }
+            return adjustment;
+        }
+
+        // ==================================================
+        // FACET COUNTING (single pass over the columns)
+        // ==================================================
+        private static final int INDUSTRY = 0;
+        private static final int LOCATION = 1;
+        private static final int JOB_TYPE = 2;
+        private static final int NOTICE = 3;
+        private static final int LWD = 4;
+        private static final int EXPERIENCE = 5;
+
+        JobFacetsResponse facets(JobSearchQuery query, int limit) {
+
+            // Filters that are not facets narrow the base set up front
+            BitSet base = (BitSet) live.clone();
+            andTokens(base, keywordPostings, query.getKeyword());
+            andTokens(base, companyPostings, query.getCompanyName());
+
+            BitSet industryMask = tokenMask(industryPostings, query.getIndustry());
+            BitSet locationMask = tokenMask(locationPostings, query.getLocation());
+
+            int jobTypeWanted = query.getJobType() != null ? query.getJobType().ordinal() : FacetColumns.MISSING;
+            int noticeWanted = query.getNoticePreference() != null
+                    ? query.getNoticePreference().ordinal()
+                    : FacetColumns.MISSING;
+
+            long[] industryCounts = new long[columns.industries.size()];
+            long[] locationCounts = new long[columns.locations.size()];
+            long[] jobTypeCounts = new long[JobType.values().length];
+            long[] noticeCounts = new long[NoticeStatus.values().length];
+            long[] lwdCounts = new long[2];
+            long[] experienceCounts = new long[FacetColumns.EXPERIENCE_BANDS.length];
+            long total = 0;
+
+            for (int i = base.nextSetBit(0); i >= 0; i = base.nextSetBit(i + 1)) {
+
+                if (query.getMaxNoticePeriod() != null
+                        && columns.maxNoticePeriod[i] != FacetColumns.MISSING
+                        && columns.maxNoticePeriod[i] < query.getMaxNoticePeriod()) {
+                    continue;
+                }
+
+                // A document failing exactly one facet filter still counts for that facet
+                int failures = 0;
+                int failed = -1;
+
+                if (industryMask != null && !industryMask.get(i)) {
+                    failures++;
+                    failed = INDUSTRY;
+                }
+                if (locationMask != null && !locationMask.get(i)) {
+                    failures++;
+                    failed = LOCATION;
+                }
+                if (jobTypeWanted != FacetColumns.MISSING && columns.jobType[i] != jobTypeWanted) {
+                    failures++;
+                    failed = JOB_TYPE;
+                }
+                if (noticeWanted != FacetColumns.MISSING && columns.notice[i] != noticeWanted) {
+                    failures++;
+                    failed = NOTICE;
+                }
+                if (query.getLwdPreferred() != null && lwdPreferred.get(i) != query.getLwdPreferred()) {
+                    failures++;
+                    failed = LWD;
+                }
+                if (!matchesExperience(i, query)) {
+                    failures++;
+                    failed = EXPERIENCE;
+                }
+
+                if (failures > 1) {
+                    continue;
+                }
+                if (failures == 0) {
+                    total++;
+                }
+
+                if ((failures == 0 || failed == INDUSTRY) && columns.industry[i] != FacetColumns.MISSING) {
+                    industryCounts[columns.industry[i]]++;
+                }
+                if ((failures == 0 || failed == LOCATION) && columns.location[i] != FacetColumns.MISSING) {
+                    locationCounts[columns.location[i]]++;
+                }
+                if ((failures == 0 || failed == JOB_TYPE) && columns.jobType[i] != FacetColumns.MISSING) {
+                    jobTypeCounts[columns.jobType[i]]++;
+                }
+                if ((failures == 0 || failed == NOTICE) && columns.notice[i] != FacetColumns.MISSING) {
+                    noticeCounts[columns.notice[i]]++;
+                }
+                if (failures == 0 || failed == LWD) {
+                    lwdCounts[lwdPreferred.get(i) ? 1 : 0]++;
+                }
+                if ((failures == 0 || failed == EXPERIENCE) && columns.experienceBand[i] != FacetColumns.MISSING) {
+                    experienceCounts[columns.experienceBand[i]]++;
+                }
+            }
+
+            return JobFacetsResponse.builder()
+                    .totalElements(total)
+                    .industry(toFacet(industryCounts, columns.industries::label, limit))
+                    .location(toFacet(locationCounts, columns.locations::label, limit))
+                    .jobType(toFacet(jobTypeCounts, code -> JobType.values()[code].name(), limit))
+                    .noticePreference(toFacet(noticeCounts, code -> NoticeStatus.values()[code].name(), limit))
+                    .lwdPreferred(toFacet(lwdCounts, code -> code == 1 ? "true" : "false", limit))
+                    .experience(toFacet(experienceCounts, code -> FacetColumns.EXPERIENCE_BANDS[code], limit))
+                    .build();
+        }
+
+        private boolean matchesExperience(int ordinal, JobSearchQuery query) {
+
+            if (query.getMinExp() != null
+                    && (columns.minExperience[ordinal] == FacetColumns.MISSING
+                    || columns.minExperience[ordinal] < query.getMinExp())) {
+                return false;
+            }
+            return query.getMaxExp() == null
+                    || columns.maxExperience[ordinal] != FacetColumns.MISSING
+                    && columns.maxExperience[ordinal] <= query.getMaxExp();
+        }
+
+        // null when the filter is not set
+        private static BitSet tokenMask(TreeMap<String, BitSet> postings, String text) {
+
+            Set<String> tokens = SearchTokenizer.tokenize(text);
+            if (tokens.isEmpty()) {
+                return null;
+            }
+
+            BitSet mask = null;
+            for (String token : tokens) {
+                BitSet bits = prefixUnion(postings, token);
+                if (mask == null) {
+                    mask = bits;
+                } else {
+                    mask.and(bits);
+                }
+            }
+            return mask;
+        }
+
+        // Non-zero counts, highest first
+        private static Map<String, Long> toFacet(long[] counts, IntFunction<String> label, int limit) {
+
+            Map<String, Long> facet = new LinkedHashMap<>();
+
+            IntStream.range(0, counts.length)
+                    .filter(code -> counts[code] > 0)
+                    .boxed()
+                    .sorted((a, b) -> Long.compare(counts[b], counts[a]))
+                    .limit(limit)
+                    .forEach(code -> facet.put(label.apply(code), counts[code]));
+
+            return facet;
+        }
+
+        // Same semantics as JobSpecification.searchJobs (NULL never satisfies >= / <=)
+        static boolean matchesRanges(JobDocument doc, JobSearchQuery query) {
+
+            if (query.getMinExp() != null
+                    && (doc.getMinExperience() == null || doc.getMinExperience() < query.getMinExp())) {
+                return false;
+            }
+            if (query.getMaxExp() != null
+                    && (doc.getMaxExperience() == null || doc.getMaxExperience() > query.getMaxExp())) {
+                return false;
+            }
+            return query.getMaxNoticePeriod() == null
+                    || doc.getMaxNoticePeriod() == null
+                    || doc.getMaxNoticePeriod() >= query.getMaxNoticePeriod();
+        }
+    }
+}
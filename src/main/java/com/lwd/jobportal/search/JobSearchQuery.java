@@ -0,0 +1,28 @@
+package com.lwd.jobportal.search;
+
+import com.lwd.jobportal.enums.JobType;
+import com.lwd.jobportal.enums.NoticeStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Filter set of the public job search (/api/jobs/search).
+ */
+@Getter
+@Builder
+public class JobSearchQuery {
+
+    private final String keyword;
+    private final String location;
+    private final String industry;
+    private final String companyName;
+    private final Integer minExp;
+    private final Integer maxExp;
+    private final JobType jobType;
+
+    // ===== LWD FILTERS =====
+    private final NoticeStatus noticePreference;
+    private final Integer maxNoticePeriod;
+    private final Boolean lwdPreferred;
+}
@@ -0,0 +1,17 @@
+package com.lwd.jobportal.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Ids of the requested page, in result order, plus the total match count.
+ */
+@Getter
+@AllArgsConstructor
+public class JobSearchResult {
+
+    private final List<Long> ids;
+    private final long totalElements;
+}
@@ -0,0 +1,339 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.entity.SavedSearch;
+import com.lwd.jobportal.event.SavedSearchChangedEvent;
+import com.lwd.jobportal.repository.SavedSearchRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reverse index of saved searches: given one new job, finds every saved
+ * search it matches without running the searches.
+ *
+ * Each saved search is registered under a single anchor key, its most
+ * selective condition: the longest text token (keyword / location /
+ * industry / company), else its job type, notice preference or
+ * "LWD preferred", else the match-all bucket. Percolating a job looks up
+ * the keys the job can satisfy (every prefix of its tokens, its job type,
+ * ...) and verifies only those candidates against the full filter set,
+ * with the same semantics as {@link JobSearchIndex}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavedSearchPercolator {
+
+    private static final String MATCH_ALL = "*";
+
+    // Longer tokens can only be anchored by their first characters
+    private static final int MAX_PREFIX = 32;
+
+    private final SavedSearchRepository savedSearchRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ===== guarded by lock =====
+    private final Map<Long, Subscription> subscriptions = new HashMap<>();
+    private final Map<String, Set<Long>> byAnchor = new HashMap<>();
+    private List<SavedSearchChangedEvent> changesWhileLoading;
+
+    private volatile boolean ready = false;
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        lock.writeLock().lock();
+        try {
+            changesWhileLoading = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<SavedSearch> savedSearches = null;
+        try {
+            savedSearches = savedSearchRepository.findAll();
+        } catch (RuntimeException ex) {
+            log.error("Saved searches could not be loaded, job alerts are disabled", ex);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (savedSearches != null) {
+                for (SavedSearch savedSearch : savedSearches) {
+                    register(new Subscription(savedSearch.getId(), savedSearch.getUserId(), toQuery(savedSearch)));
+                }
+                // replay whatever was committed while we were reading
+                changesWhileLoading.forEach(this::apply);
+                ready = true;
+                log.info("Job alert percolator loaded {} saved searches", subscriptions.size());
+            }
+            changesWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return subscriptions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static JobSearchQuery toQuery(SavedSearch savedSearch) {
+        return JobSearchQuery.builder()
+                .keyword(savedSearch.getKeyword())
+                .location(savedSearch.getLocation())
+                .industry(savedSearch.getIndustry())
+                .companyName(savedSearch.getCompanyName())
+                .minExp(savedSearch.getMinExp())
+                .maxExp(savedSearch.getMaxExp())
+                .jobType(savedSearch.getJobType())
+                .noticePreference(savedSearch.getNoticePreference())
+                .maxNoticePeriod(savedSearch.getMaxNoticePeriod())
+                .lwdPreferred(savedSearch.getLwdPreferred())
+                .build();
+    }
+
+
+    // ==================================================
+    // INCREMENTAL UPDATES
+    // ==================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            if (changesWhileLoading != null) {
+                changesWhileLoading.add(event);
+            }
+            if (ready) {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(SavedSearchChangedEvent event) {
+
+        unregister(event.getSavedSearchId());
+
+        if (event.getQuery() != null) {
+            register(new Subscription(event.getSavedSearchId(), event.getUserId(), event.getQuery()));
+        }
+    }
+
+    private void register(Subscription subscription) {
+        subscriptions.put(subscription.id, subscription);
+        byAnchor.computeIfAbsent(subscription.anchor, key -> new HashSet<>()).add(subscription.id);
+    }
+
+    private void unregister(Long savedSearchId) {
+
+        Subscription previous = subscriptions.remove(savedSearchId);
+        if (previous == null) {
+            return;
+        }
+
+        Set<Long> ids = byAnchor.get(previous.anchor);
+        ids.remove(savedSearchId);
+        if (ids.isEmpty()) {
+            byAnchor.remove(previous.anchor);
+        }
+    }
+
+
+    // ==================================================
+    // PERCOLATE
+    // ==================================================
+    // Every saved search the job matches, in one pass over the anchor keys
+    public List<Match> percolate(JobDocument doc) {
+
+        if (!doc.isSearchable()) {
+            return List.of();
+        }
+
+        Tokens tokens = new Tokens(doc);
+
+        Set<String> keys = new HashSet<>();
+        keys.add(MATCH_ALL);
+        addPrefixKeys(keys, "k:", tokens.keyword);
+        addPrefixKeys(keys, "l:", tokens.location);
+        addPrefixKeys(keys, "i:", tokens.industry);
+        addPrefixKeys(keys, "c:", tokens.company);
+        if (doc.getJobType() != null) {
+            keys.add("t:" + doc.getJobType());
+        }
+        if (doc.getNoticePreference() != null) {
+            keys.add("n:" + doc.getNoticePreference());
+        }
+        keys.add("lwd:" + Boolean.TRUE.equals(doc.getLwdPreferred()));
+
+        List<Match> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (String key : keys) {
+                Set<Long> ids = byAnchor.get(key);
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    Subscription subscription = subscriptions.get(id);
+                    if (subscription.matches(doc, tokens)) {
+                        matches.add(new Match(subscription.id, subscription.userId));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    private static void addPrefixKeys(Set<String> keys, String field, Set<String> tokens) {
+        for (String token : tokens) {
+            int max = Math.min(token.length(), MAX_PREFIX);
+            for (int length = 1; length <= max; length++) {
+                keys.add(field + token.substring(0, length));
+            }
+        }
+    }
+
+    public record Match(Long savedSearchId, Long userId) {}
+
+
+    // ================= JOB TOKENS =================
+    private static final class Tokens {
+
+        final Set<String> keyword;
+        final Set<String> location;
+        final Set<String> industry;
+        final Set<String> company;
+
+        Tokens(JobDocument doc) {
+            this.keyword = JobSearchIndex.Segment.keywordTokens(doc);
+            this.location = SearchTokenizer.tokenize(doc.getLocation());
+            this.industry = SearchTokenizer.tokenize(doc.getIndustry());
+            this.company = SearchTokenizer.tokenize(doc.getCompanyName());
+        }
+    }
+
+
+    // ================= SUBSCRIPTION =================
+    private static final class Subscription {
+
+        final Long id;
+        final Long userId;
+        final JobSearchQuery query;
+
+        final Set<String> keyword;
+        final Set<String> location;
+        final Set<String> industry;
+        final Set<String> company;
+
+        final String anchor;
+
+        Subscription(Long id, Long userId, JobSearchQuery query) {
+
+            this.id = id;
+            this.userId = userId;
+            this.query = query;
+
+            this.keyword = SearchTokenizer.tokenize(query.getKeyword());
+            this.location = SearchTokenizer.tokenize(query.getLocation());
+            this.industry = SearchTokenizer.tokenize(query.getIndustry());
+            this.company = SearchTokenizer.tokenize(query.getCompanyName());
+
+            this.anchor = chooseAnchor();
+        }
+
+        private String chooseAnchor() {
+
+            String best = null;
+            best = longer(best, "k:", keyword);
+            best = longer(best, "l:", location);
+            best = longer(best, "i:", industry);
+            best = longer(best, "c:", company);
+
+            if (best != null) {
+                return best;
+            }
+            if (query.getJobType() != null) {
+                return "t:" + query.getJobType();
+            }
+            if (query.getNoticePreference() != null) {
+                return "n:" + query.getNoticePreference();
+            }
+            if (query.getLwdPreferred() != null) {
+                return "lwd:" + query.getLwdPreferred();
+            }
+            return MATCH_ALL;
+        }
+
+        // Field prefixes have the same length, so the longest key has the longest token
+        private static String longer(String best, String field, Set<String> tokens) {
+            for (String token : tokens) {
+                String key = field + token.substring(0, Math.min(token.length(), MAX_PREFIX));
+                if (best == null || key.length() > best.length()) {
+                    best = key;
+                }
+            }
+            return best;
+        }
+
+        boolean matches(JobDocument doc, Tokens tokens) {
+            return allPrefixed(keyword, tokens.keyword)
+                    && allPrefixed(location, tokens.location)
+                    && allPrefixed(industry, tokens.industry)
+                    && allPrefixed(company, tokens.company)
+                    && (query.getJobType() == null || query.getJobType() == doc.getJobType())
+                    && (query.getNoticePreference() == null || query.getNoticePreference() == doc.getNoticePreference())
+                    && (query.getLwdPreferred() == null
+                            || query.getLwdPreferred() == Boolean.TRUE.equals(doc.getLwdPreferred()))
+                    && JobSearchIndex.Segment.matchesRanges(doc, query);
+        }
+
+        // Every query token is a prefix of some job token
+        private static boolean allPrefixed(Set<String> queryTokens, Set<String> jobTokens) {
+            for (String prefix : queryTokens) {
+                boolean found = false;
+                for (String token : jobTokens) {
+                    if (token.startsWith(prefix)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
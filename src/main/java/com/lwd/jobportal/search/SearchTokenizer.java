@@ -0,0 +1,37 @@
+package com.lwd.jobportal.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Lower-cases text and splits it on anything that is not a letter or digit.
+ * '+' and '#' are kept so "C++" and "C#" stay searchable.
+ */
+public final class SearchTokenizer {
+
+    private static final Pattern SPLIT = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private SearchTokenizer() {}
+
+    public static Set<String> tokenize(String text) {
+
+        Set<String> tokens = new LinkedHashSet<>();
+
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String token : SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? null : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
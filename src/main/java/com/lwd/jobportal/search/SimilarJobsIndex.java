@@ -0,0 +1,406 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.repository.JobRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Precomputed "similar jobs" table: the best {@value #TOP_N} other OPEN
+ * jobs for every OPEN job, so a job-detail page needs one map lookup.
+ *
+ * similarity = {@value #TITLE_WEIGHT} · Jaccard(title tokens)
+ *            + {@value #INDUSTRY_WEIGHT} · same industry
+ *            + {@value #JOB_TYPE_WEIGHT} · same job type
+ *            + {@value #EXPERIENCE_WEIGHT} · same experience band
+ *
+ * Jaccard is estimated from {@value #HASHES}-value MinHash signatures.
+ * Candidates come from LSH buckets ({@value #BANDS} bands of the
+ * signature) plus an (industry, jobType) bucket; only the newest
+ * {@value #BUCKET_SCAN} members of a bucket are scored, which bounds the
+ * work per job independent of the number of open jobs.
+ *
+ * On a job change only its neighbourhood is touched: jobs that listed it
+ * are recomputed, the job's own list is rebuilt, and it is offered to
+ * each of its candidates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarJobsIndex {
+
+    static final int TOP_N = 6;
+
+    private static final int HASHES = 16;
+    private static final int BANDS = 8;
+    private static final int ROWS = HASHES / BANDS;
+    private static final int BUCKET_SCAN = 32;
+
+    private static final double TITLE_WEIGHT = 0.6;
+    private static final double INDUSTRY_WEIGHT = 0.2;
+    private static final double JOB_TYPE_WEIGHT = 0.1;
+    private static final double EXPERIENCE_WEIGHT = 0.1;
+
+    // Candidates below this are not worth showing
+    private static final double MIN_SIMILARITY = 0.2;
+
+    private static final int[] SEEDS = new int[HASHES];
+
+    static {
+        long x = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < HASHES; i++) {
+            x = mix(x + i);
+            SEEDS[i] = (int) x;
+        }
+    }
+
+    private final JobRepository jobRepository;
+
+    // ===== guarded by this =====
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, TreeSet<Long>> buckets = new HashMap<>();
+    private final Map<Long, Set<Long>> listedBy = new HashMap<>();
+    private List<JobChangedEvent> changesWhileLoading;
+
+    private volatile boolean ready = false;
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        synchronized (this) {
+            changesWhileLoading = new ArrayList<>();
+        }
+
+        List<JobDocument> documents = null;
+        try {
+            documents = jobRepository.findSearchableDocuments();
+        } catch (RuntimeException ex) {
+            log.error("Similar jobs could not be precomputed, falling back to SQL", ex);
+        }
+
+        synchronized (this) {
+            if (documents != null) {
+                for (JobDocument doc : documents) {
+                    if (doc.isSearchable()) {
+                        insert(new Entry(doc));
+                    }
+                }
+                for (Entry entry : entries.values()) {
+                    rebuild(entry);
+                }
+                // replay whatever was committed while we were reading
+                for (JobChangedEvent event : changesWhileLoading) {
+                    apply(event);
+                }
+                ready = true;
+                log.info("Similar jobs precomputed for {} open jobs", entries.size());
+            }
+            changesWhileLoading = null;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    // ==================================================
+    // LOOKUP
+    // ==================================================
+    // Best first; null when the job is not an indexed OPEN job
+    public synchronized List<Long> similarTo(Long jobId) {
+
+        Entry entry = entries.get(jobId);
+        if (entry == null) {
+            return null;
+        }
+        return entry.neighbours.stream().map(Neighbour::jobId).toList();
+    }
+
+
+    // ==================================================
+    // INCREMENTAL UPDATES
+    // ==================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+
+        if (changesWhileLoading != null) {
+            changesWhileLoading.add(event);
+        }
+        if (ready) {
+            apply(event);
+        }
+    }
+
+    private void apply(JobChangedEvent event) {
+
+        Entry previous = entries.get(event.getJobId());
+
+        if (previous != null) {
+            if (event.isSearchable() && previous.sameFeatures(new Entry(event.getAfter()))) {
+                return;
+            }
+            remove(previous);
+        }
+
+        if (event.isSearchable()) {
+            Entry entry = new Entry(event.getAfter());
+            insert(entry);
+            rebuild(entry);
+
+            for (Entry candidate : candidatesOf(entry)) {
+                offer(candidate, entry.jobId, similarity(candidate, entry));
+            }
+        }
+    }
+
+    // Drops the job and recomputes every list it appeared in
+    private void remove(Entry entry) {
+
+        entries.remove(entry.jobId);
+        for (long key : entry.bucketKeys) {
+            TreeSet<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry.jobId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+
+        for (Neighbour neighbour : entry.neighbours) {
+            unlink(neighbour.jobId(), entry.jobId);
+        }
+
+        Set<Long> referrers = listedBy.remove(entry.jobId);
+        if (referrers != null) {
+            for (Long referrer : referrers) {
+                Entry affected = entries.get(referrer);
+                if (affected != null) {
+                    rebuild(affected);
+                }
+            }
+        }
+    }
+
+    private void insert(Entry entry) {
+        entries.put(entry.jobId, entry);
+        for (long key : entry.bucketKeys) {
+            buckets.computeIfAbsent(key, k -> new TreeSet<>()).add(entry.jobId);
+        }
+    }
+
+
+    // ================= NEIGHBOUR LISTS =================
+    private void rebuild(Entry entry) {
+
+        for (Neighbour neighbour : entry.neighbours) {
+            unlink(neighbour.jobId(), entry.jobId);
+        }
+        entry.neighbours.clear();
+
+        for (Entry candidate : candidatesOf(entry)) {
+            addNeighbour(entry, candidate.jobId, similarity(entry, candidate));
+        }
+    }
+
+    // Puts `jobId` into the target's list when it beats the current worst
+    private void offer(Entry target, Long jobId, double score) {
+
+        if (score < MIN_SIMILARITY) {
+            return;
+        }
+        List<Neighbour> list = target.neighbours;
+        if (list.size() >= TOP_N && !beats(score, jobId, list.get(list.size() - 1))) {
+            return;
+        }
+        addNeighbour(target, jobId, score);
+    }
+
+    private void addNeighbour(Entry target, Long jobId, double score) {
+
+        if (score < MIN_SIMILARITY) {
+            return;
+        }
+
+        List<Neighbour> list = target.neighbours;
+        list.removeIf(n -> n.jobId().equals(jobId));
+
+        int at = 0;
+        while (at < list.size() && !beats(score, jobId, list.get(at))) {
+            at++;
+        }
+        if (at >= TOP_N) {
+            return;
+        }
+
+        list.add(at, new Neighbour(jobId, score));
+        listedBy.computeIfAbsent(jobId, k -> new HashSet<>()).add(target.jobId);
+
+        if (list.size() > TOP_N) {
+            Neighbour dropped = list.remove(list.size() - 1);
+            unlink(dropped.jobId(), target.jobId);
+        }
+    }
+
+    private void unlink(Long listed, Long referrer) {
+        Set<Long> referrers = listedBy.get(listed);
+        if (referrers != null) {
+            referrers.remove(referrer);
+            if (referrers.isEmpty()) {
+                listedBy.remove(listed);
+            }
+        }
+    }
+
+    // Higher score first, newer (higher id) job first on ties
+    private static boolean beats(double score, Long jobId, Neighbour other) {
+        int cmp = Double.compare(score, other.score());
+        return cmp > 0 || cmp == 0 && jobId > other.jobId();
+    }
+
+    private Collection<Entry> candidatesOf(Entry entry) {
+
+        Map<Long, Entry> candidates = new HashMap<>();
+
+        for (long key : entry.bucketKeys) {
+            TreeSet<Long> bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            Iterator<Long> newest = bucket.descendingIterator();
+            for (int scanned = 0; newest.hasNext() && scanned < BUCKET_SCAN; ) {
+                Long jobId = newest.next();
+                if (!jobId.equals(entry.jobId)) {
+                    candidates.putIfAbsent(jobId, entries.get(jobId));
+                    scanned++;
+                }
+            }
+        }
+        return candidates.values();
+    }
+
+    private static double similarity(Entry a, Entry b) {
+
+        double score = TITLE_WEIGHT * a.jaccard(b);
+
+        if (a.industry != null && a.industry.equals(b.industry)) {
+            score += INDUSTRY_WEIGHT;
+        }
+        if (a.jobType >= 0 && a.jobType == b.jobType) {
+            score += JOB_TYPE_WEIGHT;
+        }
+        if (a.experienceBand >= 0 && a.experienceBand == b.experienceBand) {
+            score += EXPERIENCE_WEIGHT;
+        }
+        return score;
+    }
+
+
+    // ================= ENTRY =================
+    private static final class Entry {
+
+        final Long jobId;
+        final int[] signature;
+        final boolean hasTitle;
+        final String industry;
+        final int jobType;
+        final int experienceBand;
+        final long[] bucketKeys;
+        final List<Neighbour> neighbours = new ArrayList<>(TOP_N + 1);
+
+        Entry(JobDocument doc) {
+
+            this.jobId = doc.getId();
+            this.industry = SearchTokenizer.normalize(doc.getIndustry());
+            this.jobType = doc.getJobType() != null ? doc.getJobType().ordinal() : FacetColumns.MISSING;
+            this.experienceBand = FacetColumns.band(doc.getMinExperience());
+
+            Set<String> tokens = SearchTokenizer.tokenize(doc.getTitle());
+            this.hasTitle = !tokens.isEmpty();
+            this.signature = minHash(tokens);
+
+            // one key per LSH band, plus the (industry, jobType) bucket
+            List<Long> keys = new ArrayList<>(BANDS + 1);
+            if (hasTitle) {
+                for (int band = 0; band < BANDS; band++) {
+                    long key = band;
+                    for (int row = 0; row < ROWS; row++) {
+                        key = mix(key * 31 + signature[band * ROWS + row]);
+                    }
+                    keys.add(key);
+                }
+            }
+            keys.add(mix(Objects.hash("type", industry, jobType)));
+            this.bucketKeys = keys.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        double jaccard(Entry other) {
+            if (!hasTitle || !other.hasTitle) {
+                return 0;
+            }
+            int equal = 0;
+            for (int i = 0; i < HASHES; i++) {
+                if (signature[i] == other.signature[i]) {
+                    equal++;
+                }
+            }
+            return (double) equal / HASHES;
+        }
+
+        boolean sameFeatures(Entry other) {
+            return Arrays.equals(signature, other.signature)
+                    && Objects.equals(industry, other.industry)
+                    && jobType == other.jobType
+                    && experienceBand == other.experienceBand;
+        }
+    }
+
+    private static int[] minHash(Set<String> tokens) {
+
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (String token : tokens) {
+            int h = token.hashCode();
+            for (int i = 0; i < HASHES; i++) {
+                int value = (int) mix(h ^ SEEDS[i]);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Neighbour(Long jobId, double score) {}
+}
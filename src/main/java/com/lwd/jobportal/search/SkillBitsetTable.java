@@ -0,0 +1,201 @@
+package com.lwd.jobportal.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-width skill bitsets, one row per job / profile, stored in a single
+ * flat long[] so scoring a query is a linear scan of popcounts.
+ *
+ * A row holds {@code sets} bitsets of {@code width} words each (jobs keep
+ * required + nice-to-have, profiles keep one set). Bit positions come from
+ * {@link SkillMatchIndex}'s skill dictionary; when it outgrows the width
+ * every row is re-laid out with a wider stride.
+ *
+ * Not thread-safe: guarded by the owning index's lock.
+ */
+final class SkillBitsetTable {
+
+    private final int sets;
+    private int width = 1;
+
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private long[] ids = new long[1024];
+    private long[] bits;
+    private int[] counts;
+    private int size;
+
+    private final BitSet live = new BitSet();
+
+    SkillBitsetTable(int sets) {
+        this.sets = sets;
+        this.bits = new long[ids.length * sets * width];
+        this.counts = new int[ids.length * sets];
+    }
+
+    int width() {
+        return width;
+    }
+
+    int liveCount() {
+        return live.cardinality();
+    }
+
+    boolean contains(long id) {
+        Integer ordinal = ordinalById.get(id);
+        return ordinal != null && live.get(ordinal);
+    }
+
+    // Copy of one set of a row, null when the id is not live
+    long[] get(long id, int set) {
+        Integer ordinal = ordinalById.get(id);
+        if (ordinal == null || !live.get(ordinal)) {
+            return null;
+        }
+        int base = (ordinal * sets + set) * width;
+        return Arrays.copyOfRange(bits, base, base + width);
+    }
+
+    void put(long id, long[]... rowSets) {
+
+        Integer ordinal = ordinalById.get(id);
+
+        if (ordinal == null) {
+            ordinal = size++;
+            ensureCapacity(size);
+            ordinalById.put(id, ordinal);
+            ids[ordinal] = id;
+        }
+
+        for (int set = 0; set < sets; set++) {
+            int base = (ordinal * sets + set) * width;
+            Arrays.fill(bits, base, base + width, 0L);
+
+            long[] words = rowSets[set];
+            int count = 0;
+            for (int w = 0; w < words.length && w < width; w++) {
+                bits[base + w] = words[w];
+                count += Long.bitCount(words[w]);
+            }
+            counts[ordinal * sets + set] = count;
+        }
+        live.set(ordinal);
+    }
+
+    void remove(long id) {
+        Integer ordinal = ordinalById.get(id);
+        if (ordinal != null) {
+            live.clear(ordinal);
+            Arrays.fill(bits, ordinal * sets * width, (ordinal + 1) * sets * width, 0L);
+        }
+    }
+
+    // Re-lays every row out with at least `words` words per set
+    void ensureWidth(int words) {
+
+        if (words <= width) {
+            return;
+        }
+
+        int newWidth = Math.max(words, width * 2);
+        long[] widened = new long[ids.length * sets * newWidth];
+
+        for (int row = 0; row < size * sets; row++) {
+            System.arraycopy(bits, row * width, widened, row * newWidth, width);
+        }
+        bits = widened;
+        width = newWidth;
+    }
+
+
+    // ==================================================
+    // SCORING
+    // ==================================================
+    @FunctionalInterface
+    interface Scorer {
+        // Sort key of the row (higher = better), 0 = not a match
+        int score(int ordinal);
+    }
+
+    /**
+     * Best rows first: (page + 1) * size keys, never more than the live rows,
+     * are kept in a bounded min-heap of packed (score, ordinal) longs, ties
+     * going to the newer row.
+     */
+    Ranked rank(Scorer scorer, int page, int size) {
+
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page " + page + " / size " + size);
+        }
+
+        int wanted = (int) Math.min((long) (page + 1) * size, live.cardinality());
+        TopK top = new TopK(wanted);
+        long total = 0;
+
+        for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) {
+            int score = scorer.score(i);
+            if (score > 0) {
+                total++;
+                top.offer((long) score << 32 | i);
+            }
+        }
+
+        long[] best = top.sortedDescending();
+        int from = (int) Math.min((long) page * size, best.length);
+
+        int[] ordinals = new int[best.length - from];
+        for (int k = from; k < best.length; k++) {
+            ordinals[k - from] = (int) best[k];
+        }
+        return new Ranked(ordinals, total);
+    }
+
+    long id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    int count(int ordinal, int set) {
+        return counts[ordinal * sets + set];
+    }
+
+    // popcount(row set & query), visiting only the query's non-zero words
+    int popcountAnd(int ordinal, int set, long[] query, int[] queryWords) {
+        int base = (ordinal * sets + set) * width;
+        int matched = 0;
+        for (int w : queryWords) {
+            if (w < width) {
+                matched += Long.bitCount(bits[base + w] & query[w]);
+            }
+        }
+        return matched;
+    }
+
+    static int[] nonZeroWords(long[] query) {
+        int[] words = new int[query.length];
+        int n = 0;
+        for (int w = 0; w < query.length; w++) {
+            if (query[w] != 0) {
+                words[n++] = w;
+            }
+        }
+        return Arrays.copyOf(words, n);
+    }
+
+    // Ordinals of the requested page plus the number of matching rows
+    record Ranked(int[] ordinals, long total) {}
+
+
+    private void ensureCapacity(int needed) {
+
+        if (needed <= ids.length) {
+            return;
+        }
+
+        int capacity = Math.max(needed, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        bits = Arrays.copyOf(bits, capacity * sets * width);
+        counts = Arrays.copyOf(counts, capacity * sets);
+    }
+}
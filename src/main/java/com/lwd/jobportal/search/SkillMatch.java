@@ -0,0 +1,19 @@
+package com.lwd.jobportal.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One ranked job (or candidate) with how many of the job's required and
+ * nice-to-have skills the candidate has.
+ */
+@Getter
+@AllArgsConstructor
+public class SkillMatch {
+
+    private final Long id;
+    private final int matchedRequired;
+    private final int totalRequired;
+    private final int matchedNiceToHave;
+    private final int totalNiceToHave;
+}
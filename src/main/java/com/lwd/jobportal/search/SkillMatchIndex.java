@@ -0,0 +1,314 @@
+package com.lwd.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.event.JobSeekerChangedEvent;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Skill matching between OPEN jobs and job seeker profiles.
+ *
+ * Every Skill.id seen gets a bit position; jobs (required + nice-to-have)
+ * and profiles are stored as bitsets over those positions in
+ * {@link SkillBitsetTable}s, so "how many of the job's skills does this
+ * profile have" is a popcount of an AND.
+ *
+ *  - candidates for a job: most required skills matched, then most
+ *    nice-to-have skills matched
+ *  - jobs for a seeker: highest weighted share of the job's skills the
+ *    seeker has (required count twice)
+ *
+ * Loaded when the application is ready; job and profile changes re-read
+ * that one row's skills after commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillMatchIndex {
+
+    private static final int REQUIRED = 0;
+    private static final int NICE_TO_HAVE = 1;
+
+    private static final int COVERAGE_SCALE = 1_000_000;
+
+    private final JobRepository jobRepository;
+    private final JobSeekerRepository jobSeekerRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ===== guarded by lock =====
+    private final Map<Long, Integer> bitBySkillId = new HashMap<>();
+    private final SkillBitsetTable jobs = new SkillBitsetTable(2);
+    private final SkillBitsetTable profiles = new SkillBitsetTable(1);
+    private List<Runnable> changesWhileLoading;
+
+    private volatile boolean ready = false;
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        lock.writeLock().lock();
+        try {
+            changesWhileLoading = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, List<List<Long>>> jobSkills = new TreeMap<>();
+        Map<Long, List<Long>> profileSkills = new TreeMap<>();
+
+        try {
+            for (Object[] row : jobRepository.findSkillIdsOfOpenJobs()) {
+                int set = Boolean.TRUE.equals(row[2]) ? REQUIRED : NICE_TO_HAVE;
+                jobSkills.computeIfAbsent((Long) row[0], id -> List.of(new ArrayList<>(), new ArrayList<>()))
+                        .get(set)
+                        .add((Long) row[1]);
+            }
+            for (Object[] row : jobSeekerRepository.findAllSkillIds()) {
+                profileSkills.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Skill matching could not be loaded", ex);
+            lock.writeLock().lock();
+            try {
+                changesWhileLoading = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // ids ascending → newer rows get higher ordinals
+            jobSkills.forEach((jobId, sets) ->
+                    jobs.put(jobId, encode(sets.get(REQUIRED)), encode(sets.get(NICE_TO_HAVE))));
+            profileSkills.forEach((profileId, skills) ->
+                    profiles.put(profileId, encode(skills)));
+
+            // replay whatever was committed while we were reading
+            changesWhileLoading.forEach(Runnable::run);
+            changesWhileLoading = null;
+            ready = true;
+
+            log.info("Skill matching loaded: {} jobs, {} profiles, {} skills",
+                    jobs.liveCount(), profiles.liveCount(), bitBySkillId.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    // ==================================================
+    // INCREMENTAL UPDATES
+    // ==================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+
+        Long jobId = event.getJobId();
+
+        if (!event.isSearchable()) {
+            apply(() -> jobs.remove(jobId));
+            return;
+        }
+
+        List<Long> required = new ArrayList<>();
+        List<Long> niceToHave = new ArrayList<>();
+
+        for (Object[] row : jobRepository.findSkillIdsByJobId(jobId)) {
+            (Boolean.TRUE.equals(row[1]) ? required : niceToHave).add((Long) row[0]);
+        }
+        apply(() -> jobs.put(jobId, encode(required), encode(niceToHave)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSeekerChanged(JobSeekerChangedEvent event) {
+
+        Long profileId = jobSeekerRepository.findIdByUserId(event.getUserId()).orElse(null);
+        if (profileId == null) {
+            return;
+        }
+
+        List<Long> skills = new ArrayList<>();
+        for (Object[] row : jobSeekerRepository.findSkillIdsByUserId(event.getUserId())) {
+            skills.add((Long) row[1]);
+        }
+        apply(() -> profiles.put(profileId, encode(skills)));
+    }
+
+    // Rows are read outside the lock; only the in-memory write is locked
+    private void apply(Runnable change) {
+
+        lock.writeLock().lock();
+        try {
+            if (changesWhileLoading != null) {
+                changesWhileLoading.add(change);
+            }
+            if (ready) {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    // ==================================================
+    // CANDIDATES FOR A JOB
+    // ==================================================
+    public SkillMatchResult rankCandidates(Long jobId, int page, int size) {
+
+        lock.readLock().lock();
+        try {
+            if (jobs.contains(jobId)) {
+                return rankCandidates(jobs.get(jobId, REQUIRED), jobs.get(jobId, NICE_TO_HAVE), page, size);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // closed jobs are not in the table: read their skills once
+        List<Long> required = new ArrayList<>();
+        List<Long> niceToHave = new ArrayList<>();
+        for (Object[] row : jobRepository.findSkillIdsByJobId(jobId)) {
+            (Boolean.TRUE.equals(row[1]) ? required : niceToHave).add((Long) row[0]);
+        }
+
+        lock.readLock().lock();
+        try {
+            return rankCandidates(lookup(required), lookup(niceToHave), page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SkillMatchResult rankCandidates(long[] required, long[] niceToHave, int page, int size) {
+
+        int[] requiredWords = SkillBitsetTable.nonZeroWords(required);
+        int[] niceWords = SkillBitsetTable.nonZeroWords(niceToHave);
+
+        int totalRequired = bitCount(required);
+        int totalNice = bitCount(niceToHave);
+
+        SkillBitsetTable.Ranked ranked = profiles.rank(ordinal ->
+                profiles.popcountAnd(ordinal, 0, required, requiredWords) << 16
+                        | profiles.popcountAnd(ordinal, 0, niceToHave, niceWords),
+                page, size);
+
+        List<SkillMatch> matches = new ArrayList<>(ranked.ordinals().length);
+        for (int ordinal : ranked.ordinals()) {
+            matches.add(new SkillMatch(
+                    profiles.id(ordinal),
+                    profiles.popcountAnd(ordinal, 0, required, requiredWords),
+                    totalRequired,
+                    profiles.popcountAnd(ordinal, 0, niceToHave, niceWords),
+                    totalNice
+            ));
+        }
+        return new SkillMatchResult(matches, ranked.total());
+    }
+
+
+    // ==================================================
+    // JOBS FOR A SEEKER
+    // ==================================================
+    public SkillMatchResult rankJobs(Long userId, int page, int size) {
+
+        List<Long> skills = new ArrayList<>();
+        for (Object[] row : jobSeekerRepository.findSkillIdsByUserId(userId)) {
+            skills.add((Long) row[1]);
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] query = lookup(skills);
+            int[] words = SkillBitsetTable.nonZeroWords(query);
+
+            SkillBitsetTable.Ranked ranked = jobs.rank(ordinal -> {
+                int required = jobs.popcountAnd(ordinal, REQUIRED, query, words);
+                int nice = jobs.popcountAnd(ordinal, NICE_TO_HAVE, query, words);
+                if (required + nice == 0) {
+                    return 0;
+                }
+                long weight = 2L * jobs.count(ordinal, REQUIRED) + jobs.count(ordinal, NICE_TO_HAVE);
+                return (int) ((2L * required + nice) * COVERAGE_SCALE / weight);
+            }, page, size);
+
+            List<SkillMatch> matches = new ArrayList<>(ranked.ordinals().length);
+            for (int ordinal : ranked.ordinals()) {
+                matches.add(new SkillMatch(
+                        jobs.id(ordinal),
+                        jobs.popcountAnd(ordinal, REQUIRED, query, words),
+                        jobs.count(ordinal, REQUIRED),
+                        jobs.popcountAnd(ordinal, NICE_TO_HAVE, query, words),
+                        jobs.count(ordinal, NICE_TO_HAVE)
+                ));
+            }
+            return new SkillMatchResult(matches, ranked.total());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    // ================= ENCODING =================
+    // Write lock held: unseen skills get the next bit
+    private long[] encode(Collection<Long> skillIds) {
+
+        for (Long skillId : skillIds) {
+            bitBySkillId.computeIfAbsent(skillId, id -> bitBySkillId.size());
+        }
+
+        int words = (bitBySkillId.size() + 63) >>> 6;
+        jobs.ensureWidth(words);
+        profiles.ensureWidth(words);
+
+        return lookup(skillIds);
+    }
+
+    // Read lock held: unseen skills cannot match anything and are skipped
+    private long[] lookup(Collection<Long> skillIds) {
+
+        long[] words = new long[Math.max(jobs.width(), profiles.width())];
+
+        for (Long skillId : skillIds) {
+            Integer bit = bitBySkillId.get(skillId);
+            if (bit != null) {
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return words;
+    }
+
+    private static int bitCount(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
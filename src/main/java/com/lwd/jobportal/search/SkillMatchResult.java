@@ -0,0 +1,17 @@
+package com.lwd.jobportal.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Matches of the requested page (best first) plus the total match count.
+ */
+@Getter
+@AllArgsConstructor
+public class SkillMatchResult {
+
+    private final List<SkillMatch> matches;
+    private final long totalElements;
+}
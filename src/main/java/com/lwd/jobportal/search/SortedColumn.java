@@ -0,0 +1,114 @@
+package com.lwd.jobportal.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Numeric column with a sorted copy for range filters.
+ *
+ * {@code values} holds the current value per ordinal (NaN = null). The
+ * sorted snapshot (values + ordinals, ascending) answers a range with two
+ * binary searches; ordinals changed since the snapshot are marked stale,
+ * skipped in the snapshot and checked directly. The snapshot is rebuilt
+ * once too many ordinals are stale.
+ *
+ * Not thread-safe: guarded by the owning index's lock.
+ */
+final class SortedColumn {
+
+    private static final int MIN_STALE_BEFORE_REBUILD = 1024;
+
+    private double[] values = new double[0];
+
+    private double[] sortedValues = new double[0];
+    private int[] sortedOrdinals = new int[0];
+    private final BitSet stale = new BitSet();
+
+    private int size;
+
+    void set(int ordinal, Number value) {
+
+        if (ordinal >= values.length) {
+            int capacity = Math.max(ordinal + 1, Math.max(1024, values.length * 2));
+            int from = values.length;
+            values = Arrays.copyOf(values, capacity);
+            Arrays.fill(values, from, capacity, Double.NaN);
+        }
+        size = Math.max(size, ordinal + 1);
+
+        values[ordinal] = value != null ? value.doubleValue() : Double.NaN;
+        stale.set(ordinal);
+    }
+
+    void rebuildIfStale() {
+        if (stale.cardinality() > Math.max(MIN_STALE_BEFORE_REBUILD, size / 16)) {
+            rebuild();
+        }
+    }
+
+    double get(int ordinal) {
+        return ordinal < values.length ? values[ordinal] : Double.NaN;
+    }
+
+    void rebuild() {
+
+        Integer[] order = new Integer[size];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (!Double.isNaN(values[i])) {
+                order[n++] = i;
+            }
+        }
+        Arrays.sort(order, 0, n, (a, b) -> {
+            int cmp = Double.compare(values[a], values[b]);
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        });
+
+        sortedValues = new double[n];
+        sortedOrdinals = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortedOrdinals[i] = order[i];
+            sortedValues[i] = values[order[i]];
+        }
+        stale.clear();
+    }
+
+    // Ordinals with min <= value <= max (either bound may be null); nulls never match
+    BitSet range(Double min, Double max) {
+
+        double low = min != null ? min : Double.NEGATIVE_INFINITY;
+        double high = max != null ? max : Double.POSITIVE_INFINITY;
+
+        BitSet result = new BitSet(size);
+
+        int from = lowerBound(low);
+        for (int i = from; i < sortedValues.length && sortedValues[i] <= high; i++) {
+            if (!stale.get(sortedOrdinals[i])) {
+                result.set(sortedOrdinals[i]);
+            }
+        }
+
+        for (int i = stale.nextSetBit(0); i >= 0; i = stale.nextSetBit(i + 1)) {
+            double value = values[i];
+            if (!Double.isNaN(value) && value >= low && value <= high) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    // First index whose value is >= key
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
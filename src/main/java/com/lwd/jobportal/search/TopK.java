@@ -0,0 +1,77 @@
+package com.lwd.jobportal.search;
+
+import java.util.Arrays;
+
+/**
+ * Bounded top-K over packed {@code score << 32 | ordinal} longs.
+ *
+ * A min-heap whose root is the worst kept entry, so offering a value is
+ * O(log K) and the full candidate set is never stored or sorted. Equal
+ * scores go to the higher ordinal (the newer row).
+ */
+final class TopK {
+
+    private final long[] heap;
+    private int size;
+
+    TopK(int capacity) {
+        this.heap = new long[Math.max(capacity, 0)];
+    }
+
+    void offer(long value) {
+
+        if (heap.length == 0) {
+            return;
+        }
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+        } else if (value > heap[0]) {
+            heap[0] = value;
+            siftDown(0);
+        }
+    }
+
+    long[] sortedDescending() {
+        long[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+            long tmp = sorted[i];
+            sorted[i] = sorted[j];
+            sorted[j] = tmp;
+        }
+        return sorted;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= heap[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && heap[left + 1] < heap[left] ? left + 1 : left;
+            if (heap[i] <= heap[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
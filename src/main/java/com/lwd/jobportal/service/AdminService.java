@@ -3,6 +3,7 @@ package com.lwd.jobportal.service;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,12 +21,14 @@ import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.Role;
 import com.lwd.jobportal.enums.UserStatus;
+import com.lwd.jobportal.event.JobChangedEvent;
 import com.lwd.jobportal.exception.ForbiddenActionException;
 import com.lwd.jobportal.exception.InvalidOperationException;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.CompanyRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.JobDocument;
 import com.lwd.jobportal.security.SecurityUtils;
 
 import jakarta.transaction.Transactional;
@@ -38,6 +41,7 @@ public class AdminService {
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ================= USERS =================
     
@@ -246,9 +250,15 @@ public class AdminService {
             throw new InvalidOperationException("Job is already closed");
         }
 
+        JobDocument before = JobDocument.from(job);
+
         job.setStatus(JobStatus.CLOSED);
         jobRepository.save(job);
 
+        eventPublisher.publishEvent(
+                new JobChangedEvent(jobId, before, JobDocument.from(job))
+        );
+
         logAction(adminId, "CLOSE_JOB", jobId);
     }
 
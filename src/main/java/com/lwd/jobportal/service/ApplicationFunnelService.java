@@ -0,0 +1,346 @@
+package com.lwd.jobportal.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import com.lwd.jobportal.enums.ApplicationStatus;
+import com.lwd.jobportal.enums.FunnelScope;
+import com.lwd.jobportal.repository.ApplicationFunnelCounterRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Application status history and the funnel counters derived from it.
+ *
+ * Every apply and status change appends to application_status_events and
+ * adjusts, in the caller's transaction, the counters derived from it (+1
+ * for the new status, -1 for the old one):
+ *
+ *  - job_application_stats: one row per job, a column per status
+ *  - application_funnel_counters: one row per (company, status)
+ *
+ * so the counters always match the committed log. Dashboards and job lists
+ * read counter rows instead of counting applications.
+ *
+ * {@link #rebuild()} recomputes every counter by replaying the log.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationFunnelService {
+
+    private static final String INSERT_EVENT_SQL = """
+            INSERT INTO application_status_events (application_id, job_id, company_id,
+                                                   from_status, to_status, changed_by, changed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // Ingest writer: the application id is only known by (job, job seeker),
+    // and a replayed batch must not log the same application twice
+    private static final String INSERT_APPLIED_EVENT_SQL = """
+            INSERT INTO application_status_events (application_id, job_id, company_id,
+                                                   from_status, to_status, changed_by, changed_at)
+            SELECT ja.id, ja.job_id, ?, NULL, 'APPLIED', ja.job_seeker_id, ja.applied_at
+            FROM job_applications ja
+            WHERE ja.job_id = ? AND ja.job_seeker_id = ?
+            AND NOT EXISTS (SELECT 1 FROM application_status_events e WHERE e.application_id = ja.id)
+            """;
+
+    private static final String UPSERT_COUNTER_SQL = """
+            INSERT INTO application_funnel_counters (scope, scope_id, status, applications)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE applications = applications + VALUES(applications)
+            """;
+
+    // Atomic per-column increments; the row is created by the first application
+    private static final String UPSERT_JOB_STATS_SQL = """
+            INSERT INTO job_application_stats (job_id, total, applied, shortlisted, interview,
+                                               selected, rejected, on_hold, hired)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                total = total + VALUES(total),
+                applied = applied + VALUES(applied),
+                shortlisted = shortlisted + VALUES(shortlisted),
+                interview = interview + VALUES(interview),
+                selected = selected + VALUES(selected),
+                rejected = rejected + VALUES(rejected),
+                on_hold = on_hold + VALUES(on_hold),
+                hired = hired + VALUES(hired)
+            """;
+
+    // Replay: +1 for every status entered, -1 for every status left
+    private static final String REPLAY_JOB_STATS_SQL = """
+            INSERT INTO job_application_stats (job_id, total, applied, shortlisted, interview,
+                                               selected, rejected, on_hold, hired)
+            SELECT job_id,
+                   SUM(from_status IS NULL),
+                   SUM((to_status = 'APPLIED') - (from_status <=> 'APPLIED')),
+                   SUM((to_status = 'SHORTLISTED') - (from_status <=> 'SHORTLISTED')),
+                   SUM((to_status = 'INTERVIEW_SCHEDULED') - (from_status <=> 'INTERVIEW_SCHEDULED')),
+                   SUM((to_status = 'SELECTED') - (from_status <=> 'SELECTED')),
+                   SUM((to_status = 'REJECTED') - (from_status <=> 'REJECTED')),
+                   SUM((to_status = 'ON_HOLD') - (from_status <=> 'ON_HOLD')),
+                   SUM((to_status = 'HIRED') - (from_status <=> 'HIRED'))
+            FROM application_status_events
+            GROUP BY job_id
+            """;
+
+    private static final String REPLAY_SQL = """
+            INSERT INTO application_funnel_counters (scope, scope_id, status, applications)
+            SELECT '%1$s', d.scope_id, d.status, SUM(d.delta)
+            FROM (
+                SELECT %2$s AS scope_id, to_status AS status, 1 AS delta
+                FROM application_status_events
+                UNION ALL
+                SELECT %2$s, from_status, -1
+                FROM application_status_events
+                WHERE from_status IS NOT NULL
+            ) d
+            GROUP BY d.scope_id, d.status
+            """;
+
+    private static final String BACKFILL_SQL = """
+            INSERT INTO application_status_events (application_id, job_id, company_id,
+                                                   from_status, to_status, changed_by, changed_at)
+            SELECT ja.id, ja.job_id, j.company_id, NULL, ja.status, ja.updated_by, ja.updated_at
+            FROM job_applications ja
+            JOIN jobs j ON j.id = ja.job_id
+            WHERE NOT EXISTS (SELECT 1 FROM application_status_events)
+            """;
+
+    // Log present but a counter table empty (e.g. added after the log was)
+    private static final String COUNTERS_MISSING_SQL = """
+            SELECT EXISTS (SELECT 1 FROM application_status_events)
+               AND (NOT EXISTS (SELECT 1 FROM job_application_stats)
+                    OR NOT EXISTS (SELECT 1 FROM application_funnel_counters))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationFunnelCounterRepository counterRepository;
+
+
+    // One status change of one application (from = null: just applied)
+    public record Transition(
+            Long applicationId,
+            Long jobId,
+            Long companyId,
+            ApplicationStatus from,
+            ApplicationStatus to
+    ) {}
+
+    // One application written by the ingest writer, known by (job, job seeker)
+    public record Applied(Long jobId, Long companyId, Long jobSeekerId) {}
+
+
+    // ==================================================
+    // RECORD (caller's transaction)
+    // ==================================================
+    @Transactional
+    public void record(List<Transition> transitions, Long changedBy) {
+
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> events = new ArrayList<>(transitions.size());
+        Deltas deltas = new Deltas();
+
+        for (Transition transition : transitions) {
+
+            events.add(new Object[] {
+                    transition.applicationId(),
+                    transition.jobId(),
+                    transition.companyId(),
+                    transition.from() != null ? transition.from().name() : null,
+                    transition.to().name(),
+                    changedBy,
+                    now
+            });
+
+            deltas.add(transition.jobId(), transition.companyId(), transition.to(), 1);
+            if (transition.from() != null) {
+                deltas.add(transition.jobId(), transition.companyId(), transition.from(), -1);
+            } else {
+                deltas.created(transition.jobId());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, events);
+        applyDeltas(deltas);
+    }
+
+    // Returns which applications were new (logged now) rather than replays
+    @Transactional
+    public boolean[] recordApplied(List<Applied> applications) {
+
+        boolean[] logged = new boolean[applications.size()];
+
+        if (applications.isEmpty()) {
+            return logged;
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(
+                INSERT_APPLIED_EVENT_SQL,
+                applications.stream()
+                        .map(applied -> new Object[] {applied.companyId(), applied.jobId(), applied.jobSeekerId()})
+                        .toList()
+        );
+
+        Deltas deltas = new Deltas();
+
+        for (int i = 0; i < logged.length; i++) {
+            logged[i] = counts[i] > 0;
+            if (logged[i]) {
+                Applied applied = applications.get(i);
+                deltas.add(applied.jobId(), applied.companyId(), ApplicationStatus.APPLIED, 1);
+                deltas.created(applied.jobId());
+            }
+        }
+
+        applyDeltas(deltas);
+        return logged;
+    }
+
+    // Sorted keys: concurrent transactions lock counter rows in the same order
+    private void applyDeltas(Deltas deltas) {
+
+        List<Object[]> jobRows = new ArrayList<>(deltas.jobs.size());
+
+        deltas.jobs.forEach((jobId, delta) -> {
+            Object[] row = new Object[1 + delta.length];
+            row[0] = jobId;
+            for (int i = 0; i < delta.length; i++) {
+                row[i + 1] = delta[i];
+            }
+            jobRows.add(row);
+        });
+
+        List<Object[]> counterRows = new ArrayList<>(deltas.counters.size());
+
+        deltas.counters.forEach((key, delta) -> {
+            if (delta != 0) {
+                counterRows.add(new Object[] {key.scope().name(), key.scopeId(), key.status().name(), delta});
+            }
+        });
+
+        if (!jobRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_JOB_STATS_SQL, jobRows);
+        }
+        if (!counterRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_COUNTER_SQL, counterRows);
+        }
+    }
+
+    // Pending increments of one transaction
+    private static final class Deltas {
+
+        // jobId → [total, applied, shortlisted, interview, selected, rejected, on_hold, hired]
+        private final Map<Long, long[]> jobs = new TreeMap<>();
+        private final Map<CounterKey, Long> counters = new TreeMap<>();
+
+        void add(Long jobId, Long companyId, ApplicationStatus status, long delta) {
+            jobs.computeIfAbsent(jobId, id -> new long[8])[1 + statusColumn(status)] += delta;
+            counters.merge(new CounterKey(FunnelScope.COMPANY, companyId, status), delta, Long::sum);
+        }
+
+        void created(Long jobId) {
+            jobs.computeIfAbsent(jobId, id -> new long[8])[0]++;
+        }
+
+        // column order of UPSERT_JOB_STATS_SQL after total
+        private static int statusColumn(ApplicationStatus status) {
+            return switch (status) {
+                case APPLIED -> 0;
+                case SHORTLISTED -> 1;
+                case INTERVIEW_SCHEDULED -> 2;
+                case SELECTED -> 3;
+                case REJECTED -> 4;
+                case ON_HOLD -> 5;
+                case HIRED -> 6;
+            };
+        }
+    }
+
+    private record CounterKey(FunnelScope scope, Long scopeId, ApplicationStatus status)
+            implements Comparable<CounterKey> {
+
+        @Override
+        public int compareTo(CounterKey other) {
+            int order = scope.compareTo(other.scope);
+            if (order == 0) {
+                order = scopeId.compareTo(other.scopeId);
+            }
+            return order != 0 ? order : status.compareTo(other.status);
+        }
+    }
+
+
+    // ==================================================
+    // READ (dashboards)
+    // ==================================================
+    @Transactional(readOnly = true)
+    public Map<ApplicationStatus, Long> getCompanyFunnel(Long companyId) {
+
+        Map<ApplicationStatus, Long> funnel = new EnumMap<>(ApplicationStatus.class);
+
+        for (Object[] row : counterRepository.findCounts(FunnelScope.COMPANY, companyId)) {
+            funnel.put((ApplicationStatus) row[0], (Long) row[1]);
+        }
+        return funnel;
+    }
+
+
+    // ==================================================
+    // REBUILD (replay the log)
+    // ==================================================
+    @Transactional
+    public void rebuild() {
+
+        long start = System.currentTimeMillis();
+
+        jdbcTemplate.update("DELETE FROM job_application_stats");
+        jdbcTemplate.update(REPLAY_JOB_STATS_SQL);
+
+        jdbcTemplate.update("DELETE FROM application_funnel_counters");
+        jdbcTemplate.update(REPLAY_SQL.formatted(FunnelScope.COMPANY.name(), "company_id"));
+
+        log.info("Funnel counters rebuilt from the status log in {} ms", System.currentTimeMillis() - start);
+    }
+
+    // First start with the log: every existing application gets one event
+    // carrying its current status, then the counters are replayed from it.
+    // Counter tables that start empty next to an existing log are replayed too
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        try {
+            int backfilled = jdbcTemplate.update(BACKFILL_SQL);
+
+            if (backfilled > 0) {
+                log.info("Backfilled {} application status events", backfilled);
+                rebuild();
+            } else if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(COUNTERS_MISSING_SQL, Boolean.class))) {
+                log.info("Funnel counters are empty, replaying the status log");
+                rebuild();
+            }
+        } catch (RuntimeException ex) {
+            // all or nothing: the next start tries again
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("Application status log could not be backfilled", ex);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.lwd.jobportal.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -14,11 +15,14 @@ import com.lwd.jobportal.dto.companydto.PagedCompanyResponse;
 import com.lwd.jobportal.entity.Company;
 import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.event.JobChangedEvent;
 import com.lwd.jobportal.exception.ForbiddenActionException;
 import com.lwd.jobportal.exception.InvalidOperationException;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.CompanyRepository;
+import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.JobDocument;
 import com.lwd.jobportal.security.SecurityUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -30,6 +34,8 @@ public class CompanyServiceImpl implements CompanyService {
 
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public CompanyResponse createCompany(CreateCompanyRequest request) {
@@ -143,6 +149,17 @@ public class CompanyServiceImpl implements CompanyService {
             throw new InvalidOperationException("Company name already exists");
         }
 
+        // Open jobs carry the company name in the search index / autocomplete
+        if (!company.getCompanyName().equals(request.getCompanyName())) {
+            for (JobDocument before : jobRepository.findSearchableDocumentsByCompanyId(companyId)) {
+                eventPublisher.publishEvent(new JobChangedEvent(
+                        before.getId(),
+                        before,
+                        before.withCompanyName(request.getCompanyName())
+                ));
+            }
+        }
+
         company.setCompanyName(request.getCompanyName());
         company.setDescription(request.getDescription());
         company.setWebsite(request.getWebsite());
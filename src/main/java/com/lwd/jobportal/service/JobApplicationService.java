@@ -1,8 +1,18 @@
 package com.lwd.jobportal.service;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -11,14 +21,21 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.lwd.jobportal.dto.companydto.CompanySummaryDTO;
 import com.lwd.jobportal.dto.jobapplicationdto.*;
+import com.lwd.jobportal.dto.jobdto.JobApplyTarget;
 import com.lwd.jobportal.dto.jobdto.JobSummaryDTO;
 import com.lwd.jobportal.entity.*;
 import com.lwd.jobportal.enums.*;
+import com.lwd.jobportal.event.JobAppliedEvent;
+import com.lwd.jobportal.export.CsvWriter;
 import com.lwd.jobportal.exception.BadRequestException;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.exception.UnauthorizedException;
 import com.lwd.jobportal.repository.*;
+import com.lwd.jobportal.tracking.ApplicationIngestQueue;
+import com.lwd.jobportal.tracking.AppliedFilter;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -30,28 +47,63 @@ public class JobApplicationService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppliedFilter appliedFilter;
+    private final ApplicationIngestQueue applicationIngestQueue;
+    private final ApplicationFunnelService applicationFunnelService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final int EXPORT_CLEAR_INTERVAL = 1_000;
+    private static final String DUPLICATE_APPLICATION_INDEX = "idx_job_jobseeker";
 
     
-    public void applyForJob(JobApplicationRequest request, Long jobSeekerId) {
+    // Status-only job check, reference proxies and the unique
+    // idx_job_jobseeker index as the duplicate guard: one SELECT and one INSERT.
+    // Returns true when the application was queued for the batch writer instead
+    public boolean applyForJob(JobApplicationRequest request, Long jobSeekerId) {
+
+        Long jobId = request.getJobId();
 
-        Job job = jobRepository.findById(request.getJobId())
+        JobApplyTarget job = jobRepository.findApplyTargetById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         if (job.getStatus() != JobStatus.OPEN) {
             throw new BadRequestException("Job is not accepting applications");
         }
 
-        User jobSeeker = userRepository.findById(jobSeekerId)
-                .orElseThrow(() -> new UnauthorizedException("User not found"));
-
-        if (jobApplicationRepository
-                .existsByJobIdAndJobSeekerId(job.getId(), jobSeeker.getId())) {
+        // 🔹 Repeat click: the filter may say "maybe", the index decides
+        if (appliedFilter.mightContain(jobId, jobSeekerId)
+                && jobApplicationRepository.existsByJobIdAndJobSeekerId(jobId, jobSeekerId)) {
             throw new BadRequestException("You have already applied for this job");
         }
 
+        // 🔹 Burst mode: log + queue now, batched insert later
+        if (applicationIngestQueue.isEnabled()) {
+
+            boolean queued = applicationIngestQueue.enqueue(new ApplicationIngestQueue.Entry(
+                    jobId,
+                    job.getCompanyId(),
+                    jobSeekerId,
+                    request.getFullName(),
+                    request.getEmail(),
+                    request.getPhone(),
+                    request.getSkills(),
+                    request.getCoverLetter(),
+                    request.getResumeUrl(),
+                    System.currentTimeMillis()
+            ));
+
+            if (!queued) {
+                throw new BadRequestException("You have already applied for this job");
+            }
+            return true;
+        }
+
         JobApplication application = JobApplication.builder()
-                .job(job)
-                .jobSeeker(jobSeeker)
+                .job(jobRepository.getReferenceById(jobId))
+                .jobSeeker(userRepository.getReferenceById(jobSeekerId))
                 .applicationSource(ApplicationSource.PORTAL)
                 .fullName(request.getFullName())
                 .email(request.getEmail())
@@ -63,7 +115,28 @@ public class JobApplicationService {
                 .appliedAt(LocalDateTime.now())
                 .build();
 
-        jobApplicationRepository.save(application);
+        try {
+            jobApplicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateApplication(ex)) {
+                appliedFilter.put(jobId, jobSeekerId);
+                throw new BadRequestException("You have already applied for this job");
+            }
+            if (isMissingJobSeeker(ex)) {
+                // job_seeker_id is from the token, so this is a deleted account
+                throw new UnauthorizedException("User not found");
+            }
+            throw ex;
+        }
+
+        applicationFunnelService.record(
+                List.of(new ApplicationFunnelService.Transition(
+                        application.getId(), jobId, job.getCompanyId(), null, ApplicationStatus.APPLIED)),
+                jobSeekerId
+        );
+
+        eventPublisher.publishEvent(new JobAppliedEvent(jobId, jobSeekerId));
+        return false;
     }
     
     
@@ -138,26 +211,121 @@ public class JobApplicationService {
             Role role
     ) {
 
-        JobApplication application = jobApplicationRepository.findById(applicationId)
+        // locked: the logged "from" status cannot go stale under a concurrent change
+        JobApplication application = jobApplicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+
+        Job job = application.getJob();
+
         // ADMIN → allow directly
-        if (role == Role.ADMIN) {
-            application.setStatus(newStatus);
-            application.setUpdatedBy(userId); 
-            jobApplicationRepository.save(application);
-            return;
-        }
+        if (role != Role.ADMIN) {
 
-        Company company = companyRepository.findByCreatedById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
+            Company company = companyRepository.findByCreatedById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
 
-        if (!company.getId().equals(application.getJob().getCompany().getId())) {
-            throw new AccessDeniedException("You are not allowed to update this application");
+            if (!company.getId().equals(job.getCompany().getId())) {
+                throw new AccessDeniedException("You are not allowed to update this application");
+            }
         }
 
+        ApplicationStatus previousStatus = application.getStatus();
+
         application.setStatus(newStatus);
         application.setUpdatedBy(userId); // 🔹 who updated
         jobApplicationRepository.save(application);
+
+        if (previousStatus != newStatus) {
+            applicationFunnelService.record(
+                    List.of(new ApplicationFunnelService.Transition(
+                            applicationId, job.getId(), job.getCompany().getId(), previousStatus, newStatus)),
+                    userId
+            );
+        }
+    }
+    
+    // ================= BULK STATUS CHANGE =================
+    // Scope as in /my-applications: ADMIN all, RECRUITER_ADMIN their company,
+    // RECRUITER the jobs they posted. One locking SELECT decides ownership and
+    // the previous status of every id, one UPDATE moves the ones that differ
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN','RECRUITER')")
+    @Transactional
+    public BulkApplicationStatusResponse changeApplicationStatuses(
+            List<Long> applicationIds,
+            ApplicationStatus newStatus,
+            Long userId,
+            Role role
+    ) {
+
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+
+        // rows stay locked until commit, so concurrent edits wait instead of interleaving
+        List<Object[]> rows;
+
+        if (role == Role.ADMIN) {
+            rows = jobApplicationRepository.lockStatusesByIdIn(ids);
+        } else if (role == Role.RECRUITER_ADMIN) {
+            rows = jobApplicationRepository.lockStatusesByIdInAndCompanyCreator(ids, userId);
+        } else if (role == Role.RECRUITER) {
+            rows = jobApplicationRepository.lockStatusesByIdInAndJobCreator(ids, userId);
+        } else {
+            throw new AccessDeniedException("Invalid role");
+        }
+
+        Map<Long, ApplicationStatus> previous = new HashMap<>();
+        List<Long> toUpdate = new ArrayList<>();
+        List<ApplicationFunnelService.Transition> transitions = new ArrayList<>();
+
+        // row = (id, status, jobId, companyId)
+        for (Object[] row : rows) {
+
+            Long id = (Long) row[0];
+            ApplicationStatus status = (ApplicationStatus) row[1];
+            previous.put(id, status);
+
+            if (status != newStatus) {
+                toUpdate.add(id);
+                transitions.add(new ApplicationFunnelService.Transition(
+                        id, (Long) row[2], (Long) row[3], status, newStatus));
+            }
+        }
+
+        if (!toUpdate.isEmpty()) {
+            jobApplicationRepository.updateStatusByIdIn(toUpdate, newStatus, userId, LocalDateTime.now());
+            applicationFunnelService.record(transitions, userId);
+        }
+
+        // ================= PER-ID RESULTS =================
+        List<BulkApplicationStatusResponse.Result> results = new ArrayList<>(ids.size());
+        int updated = 0;
+        int unchanged = 0;
+        int notFound = 0;
+
+        for (Long id : ids) {
+
+            ApplicationStatus before = previous.get(id);
+            BulkApplicationStatusResponse.Result.Outcome outcome;
+
+            if (before == null) {
+                outcome = BulkApplicationStatusResponse.Result.Outcome.NOT_FOUND;
+                notFound++;
+            } else if (before == newStatus) {
+                outcome = BulkApplicationStatusResponse.Result.Outcome.UNCHANGED;
+                unchanged++;
+            } else {
+                outcome = BulkApplicationStatusResponse.Result.Outcome.UPDATED;
+                updated++;
+            }
+
+            results.add(new BulkApplicationStatusResponse.Result(id, outcome, before));
+        }
+
+        return BulkApplicationStatusResponse.builder()
+                .status(newStatus)
+                .updated(updated)
+                .unchanged(unchanged)
+                .notFound(notFound)
+                .results(results)
+                .build();
     }
     
     // ================= JOB SEEKER: MY APPLICATIONS =================
@@ -242,6 +410,97 @@ public class JobApplicationService {
                 .build();
     }
 
+    // ================= HELPER: FAILED APPLY INSERT =================
+    // Only the (job, job seeker) index means "already applied"
+    private static boolean isDuplicateApplication(DataIntegrityViolationException ex) {
+
+        ConstraintViolationException violation = constraintViolation(ex);
+
+        return violation != null
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().contains(DUPLICATE_APPLICATION_INDEX);
+    }
+
+    // The generated FK name says nothing, MySQL's message names the column:
+    // "... FOREIGN KEY (`job_seeker_id`) REFERENCES `users` (`id`))"
+    private static boolean isMissingJobSeeker(DataIntegrityViolationException ex) {
+
+        ConstraintViolationException violation = constraintViolation(ex);
+
+        return violation != null
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.FOREIGN_KEY
+                && violation.getSQLException().getMessage() != null
+                && violation.getSQLException().getMessage().contains("(`job_seeker_id`)");
+    }
+
+    private static ConstraintViolationException constraintViolation(DataIntegrityViolationException ex) {
+
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation;
+            }
+        }
+        return null;
+    }
+
+    // ================= CSV EXPORT: SAME SCOPE AS /my-applications =================
+    // Rows are written as they stream in and detached right after
+    @Transactional(readOnly = true)
+    public void exportApplicationsByRole(Long userId, Role role, OutputStream out) {
+
+        Stream<JobApplication> applications;
+
+        if (role == Role.ADMIN) {
+            applications = jobApplicationRepository.streamAllForExport();
+        } else if (role == Role.RECRUITER_ADMIN) {
+            Company company = companyRepository.findByCreatedById(userId)
+                    .orElseThrow(() ->
+                            new ResourceNotFoundException("Company not found for recruiter admin"));
+            applications = jobApplicationRepository.streamByCompanyForExport(company.getId());
+        } else if (role == Role.RECRUITER) {
+            applications = jobApplicationRepository.streamByJobCreatorForExport(userId);
+        } else {
+            throw new AccessDeniedException("Invalid role");
+        }
+
+        CsvWriter csv = new CsvWriter(out);
+        csv.row("Application ID", "Applicant Name", "Email", "Phone", "Source", "Status", "Applied At",
+                "Job ID", "Job Title", "Job Location", "Company");
+
+        int written = 0;
+
+        try (applications) {
+            for (JobApplication application : (Iterable<JobApplication>) applications::iterator) {
+
+                Job job = application.getJob();
+
+                csv.row(
+                        application.getId(),
+                        application.getFullName(),
+                        application.getEmail(),
+                        application.getPhone(),
+                        application.getApplicationSource(),
+                        application.getStatus(),
+                        application.getAppliedAt(),
+                        job.getId(),
+                        job.getTitle(),
+                        job.getLocation(),
+                        job.getCompany().getCompanyName()
+                );
+
+                entityManager.detach(application);
+
+                // jobs / companies are shared between rows; drop them in chunks
+                if (++written % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        csv.flush();
+    }
+
+
     // ================= HELPER: MAP ENTITY → DTO =================
     private JobApplicationResponse mapToResponse(JobApplication application) {
 
@@ -1,41 +1,58 @@
 package com.lwd.jobportal.service;
 
+import com.lwd.jobportal.cache.CountCache;
 import com.lwd.jobportal.dto.comman.PagedResponse;
 import com.lwd.jobportal.dto.comman.PaginationUtil;
 import com.lwd.jobportal.dto.jobseekerdto.JobSeekerRequestDTO;
 import com.lwd.jobportal.dto.jobseekerdto.JobSeekerResponseDTO;
 import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchRequest;
 import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchResponse;
-import com.lwd.jobportal.dto.jobseekerdto.SkillResponseDTO;
 import com.lwd.jobportal.entity.JobSeeker;
-import com.lwd.jobportal.entity.Skill;
 import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.NoticeStatus;
 import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.event.JobSeekerChangedEvent;
+import com.lwd.jobportal.exception.BadRequestException;
+import com.lwd.jobportal.exception.InvalidOperationException;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
+import com.lwd.jobportal.export.CsvWriter;
+import com.lwd.jobportal.repository.CandidateExportRepository;
+import com.lwd.jobportal.repository.IdSliceRepository;
 import com.lwd.jobportal.repository.JobSeekerRepository;
 import com.lwd.jobportal.repository.SkillRepository;
 import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.search.AvailabilityIndex;
+import com.lwd.jobportal.search.CandidateSearchIndex;
+import com.lwd.jobportal.search.JobSearchResult;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.specification.JobSeekerSpecification;
 
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,8 +61,15 @@ import java.util.stream.Collectors;
 public class JobSeekerService {
 
     private final JobSeekerRepository jobSeekerRepository;
+    private final IdSliceRepository idSliceRepository;
+    private final CandidateExportRepository candidateExportRepository;
+    private final CandidateSearchIndex candidateSearchIndex;
+    private final AvailabilityIndex availabilityIndex;
     private final UserRepository userRepository;
     private final SkillRepository skillRepository;
+    private final SkillService skillService;
+    private final CountCache countCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     // =====================================================
@@ -85,6 +109,7 @@ public class JobSeekerService {
         }
 
         JobSeeker saved = jobSeekerRepository.save(jobSeeker);
+        eventPublisher.publishEvent(new JobSeekerChangedEvent(userId));
 
         return mapToDTO(saved);
     }
@@ -114,6 +139,7 @@ public class JobSeekerService {
             jobSeeker.setUser(user);
 
             jobSeeker = jobSeekerRepository.save(jobSeeker);
+            eventPublisher.publishEvent(new JobSeekerChangedEvent(userId));
         }
 
         return mapToDTO(jobSeeker);
@@ -138,6 +164,7 @@ public class JobSeekerService {
             jobSeeker.setUser(user);
 
             jobSeeker = jobSeekerRepository.save(jobSeeker);
+            eventPublisher.publishEvent(new JobSeekerChangedEvent(userId));
         }
 
         return mapToDTO(jobSeeker);
@@ -158,61 +185,17 @@ public class JobSeekerService {
         // Clear skills if empty
         if (skillNames == null || skillNames.isEmpty()) {
             jobSeeker.getSkills().clear();
+            eventPublisher.publishEvent(new JobSeekerChangedEvent(userId));
             return;
         }
 
         // =====================================================
-        // 1️⃣ Normalize + Remove duplicates
-        // =====================================================
-        Set<String> normalizedNames = skillNames.stream()
-                .filter(Objects::nonNull)
-                .map(name -> name.trim().toLowerCase())
-                .filter(name -> !name.isBlank())
-                .collect(Collectors.toSet());
-
-        // =====================================================
-        // 2️⃣ Fetch existing skills (ONE QUERY)
-        // =====================================================
-        List<Skill> existingSkills =
-                skillRepository.findExistingSkills(normalizedNames);
-
-        Map<String, Skill> existingMap = existingSkills.stream()
-                .collect(Collectors.toMap(
-                        skill -> skill.getName().toLowerCase(),
-                        skill -> skill
-                ));
-
-        // =====================================================
-        // 3️⃣ Create missing skills (Batch insert)
-        // =====================================================
-        List<Skill> newSkills = new ArrayList<>();
-
-        for (String name : normalizedNames) {
-            if (!existingMap.containsKey(name)) {
-                newSkills.add(
-                        Skill.builder()
-                                .name(name)
-                                .build()
-                );
-            }
-        }
-
-        if (!newSkills.isEmpty()) {
-            try {
-                skillRepository.saveAll(newSkills);
-                existingSkills.addAll(newSkills);
-            } catch (Exception e) {
-                // ⚠ In case of race condition (two users insert same skill)
-                // Fetch again safely
-                existingSkills = skillRepository.findExistingSkills(normalizedNames);
-            }
-        }
-
-        // =====================================================
-        // 4️⃣ Attach unique skills
+        // Attach unique skills (created when missing)
         // =====================================================
         jobSeeker.getSkills().clear();
-        jobSeeker.getSkills().addAll(existingSkills);
+        jobSeeker.getSkills().addAll(skillService.resolveSkills(skillNames));
+
+        eventPublisher.publishEvent(new JobSeekerChangedEvent(userId));
     }
 
     
@@ -231,37 +214,6 @@ public class JobSeekerService {
     
     
     
-    public PagedResponse<SkillResponseDTO> getAllSkills(
-            String keyword,
-            Integer page,
-            Integer size
-    ) {
-
-        Pageable pageable = PageRequest.of(
-                page == null ? 0 : page,
-                size == null ? 10 : size,
-                Sort.by("name").ascending()
-        );
-
-        Page<Skill> skillPage;
-
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            skillPage = skillRepository
-                    .findByNameContainingIgnoreCase(keyword.trim(), pageable);
-        } else {
-            skillPage = skillRepository.findAll(pageable);
-        }
-
-        List<SkillResponseDTO> content = skillPage
-                .stream()
-                .map(skill -> SkillResponseDTO.builder()
-                        .id(skill.getId())
-                        .name(skill.getName())
-                        .build())
-                .toList();
-
-        return PaginationUtil.buildPagedResponse(skillPage, content);
-    }
 
 
 
@@ -284,21 +236,7 @@ public class JobSeekerService {
 	        JobSeekerSearchRequest request
 	) {
 	
-	    Specification<JobSeeker> specification =
-	            JobSeekerSpecification.searchJobSeekers(
-	                    request.getKeyword(),
-	                    request.getSkills(),
-	                    request.getCurrentLocation(),
-	                    request.getPreferredLocation(),
-	                    request.getMinExperience(),
-	                    request.getMaxExperience(),
-	                    request.getMinExpectedCTC(),
-	                    request.getMaxExpectedCTC(),
-	                    request.getNoticeStatus(),
-	                    request.getMaxNoticePeriod(),
-	                    request.getImmediateJoiner(),
-	                    request.getAvailableBefore()
-	            );
+	    Specification<JobSeeker> specification = specificationOf(request);
 	
 	    Sort.Direction direction =
 	            request.getSortDirection() != null
@@ -310,26 +248,211 @@ public class JobSeekerService {
 	                    ? request.getSortBy()
 	                    : "totalExperience";
 	
+	    // "best match" is scored by the index; until it is loaded use the default order
+	    if (CandidateSearchIndex.RELEVANCE.equals(sortBy) && !candidateSearchIndex.isReady()) {
+	        sortBy = "totalExperience";
+	    }
+	
 	    Pageable pageable = PageRequest.of(
 	            request.getPage() != null ? request.getPage() : 0,
 	            request.getSize() != null ? request.getSize() : 10,
 	            Sort.by(direction, sortBy)
 	    );
 	
-	    Page<JobSeeker> jobSeekerPage =
-	            jobSeekerRepository.findAll(specification, pageable);
+	    // 🔥 Answer from the in-memory bitmap index, MySQL only hydrates the page
+	    if (candidateSearchIndex.isReady() && CandidateSearchIndex.supportsSort(sortBy)) {
+	
+	        JobSearchResult result = candidateSearchIndex.search(
+	                request,
+	                sortBy,
+	                direction.isAscending(),
+	                pageable.getPageNumber(),
+	                pageable.getPageSize()
+	        );
 	
-	    List<JobSeekerSearchResponse> content =
-	            jobSeekerPage.stream()
-	                    .map(this::toSearchResponse)
-	                    .toList();
+	        Page<JobSeekerSearchResponse> candidatePage = new PageImpl<>(
+	                getSearchResponsesInOrder(result.getIds()),
+	                pageable,
+	                result.getTotalElements()
+	        );
 	
-	    return PaginationUtil.buildPagedResponse(jobSeekerPage, content);
+	        return PaginationUtil.buildPagedResponse(candidatePage, candidatePage.getContent());
+	    }
+	
+	    // Phase 1: size + 1 ids only; the total is counted once per filter set (CountCache)
+	    Slice<Long> idSlice =
+	            idSliceRepository.findIdSlice(JobSeeker.class, specification, pageable);
+	
+	    // Phase 2: hydrate just this page (user + one bulk skill-name query)
+	    List<JobSeekerSearchResponse> content = getSearchResponsesInOrder(idSlice.getContent());
+
+	    return PaginationUtil.buildPagedResponse(
+	            idSlice,
+	            content,
+	            () -> countCache.get(
+	                    CountCache.JOB_SEEKERS,
+	                    countKey(request),
+	                    () -> jobSeekerRepository.count(specification)
+	            ),
+	            !Boolean.FALSE.equals(request.getIncludeTotal())
+	    );
 	}
 
 
 
 
+    // =====================================================
+    // CSV EXPORT (same filters as search, streamed)
+    // =====================================================
+    // Consumes one forward-only row stream; a profile's skill rows are folded as they arrive
+    @Transactional(readOnly = true)
+    public void exportJobSeekers(JobSeekerSearchRequest request, OutputStream out) {
+
+        String sortBy = request.getSortBy() != null && CandidateExportRepository.isSortable(request.getSortBy())
+                ? request.getSortBy()
+                : "totalExperience";
+
+        Sort.Direction direction = request.getSortDirection() != null
+                ? Sort.Direction.fromString(request.getSortDirection())
+                : Sort.Direction.DESC;
+
+        CsvWriter csv = new CsvWriter(out);
+        csv.row("Profile ID", "Name", "Email", "Current Company", "Current Location", "Preferred Location",
+                "Total Experience", "Expected CTC", "Notice Status", "Notice Period", "Immediate Joiner",
+                "Last Working Day", "Available From", "Skills");
+
+        try (Stream<Tuple> rows = candidateExportRepository.streamRows(specificationOf(request), Sort.by(direction, sortBy))) {
+
+            Tuple current = null;
+            List<String> skills = new ArrayList<>();
+
+            for (Tuple row : (Iterable<Tuple>) rows::iterator) {
+
+                if (current != null && !current.get(CandidateExportRepository.ID).equals(row.get(CandidateExportRepository.ID))) {
+                    writeCandidate(csv, current, skills);
+                    skills.clear();
+                }
+                current = row;
+
+                String skill = row.get(CandidateExportRepository.SKILL, String.class);
+                if (skill != null) {
+                    skills.add(skill);
+                }
+            }
+            if (current != null) {
+                writeCandidate(csv, current, skills);
+            }
+        }
+        csv.flush();
+    }
+
+    private static void writeCandidate(CsvWriter csv, Tuple row, List<String> skills) {
+        csv.row(
+                row.get(CandidateExportRepository.ID),
+                row.get(CandidateExportRepository.NAME),
+                row.get(CandidateExportRepository.EMAIL),
+                row.get(CandidateExportRepository.CURRENT_COMPANY),
+                row.get(CandidateExportRepository.CURRENT_LOCATION),
+                row.get(CandidateExportRepository.PREFERRED_LOCATION),
+                row.get(CandidateExportRepository.TOTAL_EXPERIENCE),
+                row.get(CandidateExportRepository.EXPECTED_CTC),
+                row.get(CandidateExportRepository.NOTICE_STATUS),
+                row.get(CandidateExportRepository.NOTICE_PERIOD),
+                row.get(CandidateExportRepository.IMMEDIATE_JOINER),
+                row.get(CandidateExportRepository.LAST_WORKING_DAY),
+                row.get(CandidateExportRepository.AVAILABLE_FROM),
+                String.join("; ", skills)
+        );
+    }
+
+
+    // =====================================================
+    // AVAILABILITY (recruiters filtering by joining date)
+    // =====================================================
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER','RECRUITER_ADMIN')")
+    @Transactional(readOnly = true)
+    public PagedResponse<JobSeekerSearchResponse> getAvailableWithin(int days, int page, int size) {
+
+        if (days < 0) {
+            throw new BadRequestException("days must not be negative");
+        }
+
+        return toPagedResponse(availabilityIndex().availableWithin(days, page, size), page, size);
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER','RECRUITER_ADMIN')")
+    @Transactional(readOnly = true)
+    public PagedResponse<JobSeekerSearchResponse> getByLastWorkingDay(
+            LocalDate from,
+            LocalDate to,
+            int page,
+            int size
+    ) {
+
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+
+        return toPagedResponse(availabilityIndex().lastWorkingDayBetween(from, to, page, size), page, size);
+    }
+
+    private PagedResponse<JobSeekerSearchResponse> toPagedResponse(JobSearchResult result, int page, int size) {
+
+        Page<JobSeekerSearchResponse> candidatePage = new PageImpl<>(
+                getSearchResponsesInOrder(result.getIds()),
+                PageRequest.of(page, size),
+                result.getTotalElements()
+        );
+
+        return PaginationUtil.buildPagedResponse(candidatePage, candidatePage.getContent());
+    }
+
+    private AvailabilityIndex availabilityIndex() {
+        if (!availabilityIndex.isReady()) {
+            throw new InvalidOperationException("Availability search is still loading, please retry shortly");
+        }
+        return availabilityIndex;
+    }
+
+
+    // Search rows for ids ranked elsewhere (skill matching), in the given order
+    @Transactional(readOnly = true)
+    public List<JobSeekerSearchResponse> getSearchResponsesInOrder(List<Long> ids) {
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobSeeker> byId = jobSeekerRepository.findByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(JobSeeker::getId, Function.identity()));
+
+        // skill names of just these profiles, keyed by user id
+        Map<Long, List<String>> skillsByUserId = new HashMap<>();
+
+        if (!byId.isEmpty()) {
+            List<Long> userIds = byId.values().stream()
+                    .map(jobSeeker -> jobSeeker.getUser().getId())
+                    .toList();
+
+            for (Object[] row : skillRepository.findSkillNamesByUserIdIn(userIds)) {
+                skillsByUserId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(jobSeeker -> toSearchResponse(
+                        jobSeeker,
+                        skillsByUserId.getOrDefault(jobSeeker.getUser().getId(), List.of())
+                ))
+                .toList();
+    }
+
+
+
+
     // =====================================================
     // PRIVATE HELPER METHODS
     // =====================================================
@@ -343,6 +466,41 @@ public class JobSeekerService {
 //    }
     
     
+    private static Specification<JobSeeker> specificationOf(JobSeekerSearchRequest request) {
+        return JobSeekerSpecification.searchJobSeekers(
+                request.getKeyword(),
+                request.getSkills(),
+                request.getCurrentLocation(),
+                request.getPreferredLocation(),
+                request.getMinExperience(),
+                request.getMaxExperience(),
+                request.getMinExpectedCTC(),
+                request.getMaxExpectedCTC(),
+                request.getNoticeStatus(),
+                request.getMaxNoticePeriod(),
+                request.getImmediateJoiner(),
+                request.getAvailableBefore()
+        );
+    }
+
+    private static String countKey(JobSeekerSearchRequest request) {
+        return CountCache.key(
+                request.getKeyword(),
+                request.getSkills(),
+                request.getCurrentLocation(),
+                request.getPreferredLocation(),
+                request.getMinExperience(),
+                request.getMaxExperience(),
+                request.getMinExpectedCTC(),
+                request.getMaxExpectedCTC(),
+                request.getNoticeStatus(),
+                request.getMaxNoticePeriod(),
+                request.getImmediateJoiner(),
+                request.getAvailableBefore()
+        );
+    }
+
+
     // =====================================================
     // MAPPINGS METHODS
     // =====================================================
@@ -388,7 +546,7 @@ public class JobSeekerService {
     }
     
    
-    private JobSeekerSearchResponse toSearchResponse(JobSeeker jobSeeker) {
+    private JobSeekerSearchResponse toSearchResponse(JobSeeker jobSeeker, List<String> skillNames) {
 
         return JobSeekerSearchResponse.builder()
                 .id(jobSeeker.getId())
@@ -401,12 +559,10 @@ public class JobSeekerService {
                 .currentLocation(jobSeeker.getCurrentLocation())
                 .immediateJoiner(jobSeeker.getImmediateJoiner())
                 .noticePeriod(jobSeeker.getNoticePeriod())
-                .skills(
-                        jobSeeker.getSkills()
-                                .stream()
-                                .map(skill -> skill.getName())
-                                .collect(Collectors.toList())
-                )
+                .noticeStatus(jobSeeker.getNoticeStatus())
+                .lastWorkingDay(jobSeeker.getLastWorkingDay())
+                .availableFrom(jobSeeker.getAvailableFrom())
+                .skills(skillNames)
                 .build();
     }
 
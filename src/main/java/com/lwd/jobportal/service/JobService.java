@@ -3,7 +3,13 @@ package com.lwd.jobportal.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
@@ -11,19 +17,40 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.lwd.jobportal.cache.CountCache;
+import com.lwd.jobportal.cache.ResultCache;
+import com.lwd.jobportal.dto.comman.PagedResponse;
+import com.lwd.jobportal.dto.comman.PaginationUtil;
 import com.lwd.jobportal.dto.companydto.CompanySummaryDTO;
 import com.lwd.jobportal.dto.jobdto.*;
+import com.lwd.jobportal.dto.jobseekerdto.CandidateSkillMatchResponse;
+import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchResponse;
 import com.lwd.jobportal.entity.*;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.JobType;
 import com.lwd.jobportal.enums.NoticeStatus;
 import com.lwd.jobportal.enums.Role;
 import com.lwd.jobportal.enums.UserStatus;
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.event.JobViewedEvent;
+import com.lwd.jobportal.exception.InvalidOperationException;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.*;
+import com.lwd.jobportal.search.JobAutocomplete;
+import com.lwd.jobportal.search.JobDocument;
+import com.lwd.jobportal.search.JobProfileQuery;
+import com.lwd.jobportal.search.JobRecommender;
+import com.lwd.jobportal.search.JobSearchIndex;
+import com.lwd.jobportal.search.JobSearchQuery;
+import com.lwd.jobportal.search.JobSearchResult;
+import com.lwd.jobportal.search.SimilarJobsIndex;
+import com.lwd.jobportal.search.SkillMatch;
+import com.lwd.jobportal.search.SkillMatchIndex;
+import com.lwd.jobportal.search.SkillMatchResult;
 import com.lwd.jobportal.security.SecurityUtils;
 import com.lwd.jobportal.specification.IndustryCount;
 import com.lwd.jobportal.specification.JobSpecification;
+import com.lwd.jobportal.tracking.TrendingEngine;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,8 +60,28 @@ import lombok.RequiredArgsConstructor;
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final IdSliceRepository idSliceRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobRecommender jobRecommender;
+    private final SimilarJobsIndex similarJobsIndex;
+    private final SkillMatchIndex skillMatchIndex;
+    private final SkillService skillService;
+    private final JobSeekerService jobSeekerService;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobAutocomplete jobAutocomplete;
+    private final CountCache countCache;
+    private final ResultCache resultCache;
+    private final TrendingEngine trendingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_FACET_VALUES = 20;
+
+    // Landing-page feed pages served from ResultCache
+    private static final int CACHED_FEED_PAGES = 6;
+
+    private static final int MAX_SCROLL_SIZE = 100;
 
     // ==================================================
     // ADMIN CREATE JOB
@@ -47,7 +94,10 @@ public class JobService {
         Job job = buildJob(request, admin, company);
         job.setStatus(JobStatus.OPEN);
 
-        return mapToResponse(jobRepository.save(job));
+        Job saved = jobRepository.save(job);
+        publishChange(saved, null);
+
+        return mapToResponse(saved);
     }
     
     
@@ -95,7 +145,10 @@ public class JobService {
         Job job = buildJob(request, user, company);
         job.setStatus(JobStatus.OPEN);
 
-        return mapToResponse(jobRepository.save(job));
+        Job saved = jobRepository.save(job);
+        publishChange(saved, null);
+
+        return mapToResponse(saved);
     }
 
     // ==================================================
@@ -108,6 +161,8 @@ public class JobService {
 
         validateOwnership(user, job);
 
+        JobDocument before = JobDocument.from(job);
+
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
         job.setLocation(request.getLocation());
@@ -123,8 +178,20 @@ public class JobService {
             job.setLwdPreferred(request.getLwdPreferred());
         }
 
+        // skills are only replaced when sent
+        if (request.getRequiredSkills() != null) {
+            job.getRequiredSkills().clear();
+            job.getRequiredSkills().addAll(skillService.resolveSkills(request.getRequiredSkills()));
+        }
+        if (request.getNiceToHaveSkills() != null) {
+            job.getNiceToHaveSkills().clear();
+            job.getNiceToHaveSkills().addAll(skillService.resolveSkills(request.getNiceToHaveSkills()));
+        }
+
+        Job saved = jobRepository.save(job);
+        publishChange(saved, before);
 
-        return mapToResponse(jobRepository.save(job));
+        return mapToResponse(saved);
     }
 
 
@@ -140,12 +207,14 @@ public class JobService {
 
         validateOwnership(user, job);
 
+        JobDocument before = JobDocument.from(job);
+
         // 🔥 Soft delete
         job.setDeleted(true);
         job.setDeletedAt(LocalDateTime.now());
         job.setStatus(JobStatus.CLOSED); // Optional but recommended
 
-        jobRepository.save(job);
+        publishChange(jobRepository.save(job), before);
     }
 
 
@@ -160,8 +229,14 @@ public class JobService {
 
         validateOwnership(user, job);
 
+        JobDocument before = JobDocument.from(job);
+
         job.setStatus(status);
-        return mapToResponse(jobRepository.save(job));
+
+        Job saved = jobRepository.save(job);
+        publishChange(saved, before);
+
+        return mapToResponse(saved);
     }
     
     
@@ -222,11 +297,17 @@ public class JobService {
     // GET JOB BY ID
     // ==================================================
     public JobResponse getJobById(Long jobId) {
-        return mapToResponse(getJobByIdInternal(jobId));
+
+        Job job = getJobByIdInternal(jobId);
+
+        // JobViewCounter (jobs.view_count) and TrendingEngine
+        eventPublisher.publishEvent(new JobViewedEvent(jobId, JobDocument.from(job).isSearchable()));
+
+        return mapToResponse(job);
     }
 
     
-    public PagedJobResponse getJobsByCompany(Long companyId, int page) {
+    public PagedResponse<JobCard> getJobsByCompany(Long companyId, int page) {
 
         Pageable pageable = PageRequest.of(
                 page,
@@ -234,18 +315,28 @@ public class JobService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<JobResponse> jobPage = jobRepository
-                .findByCompanyId(companyId, pageable)
-                .map(this::mapToResponse);
+        Page<JobCard> jobPage = jobRepository.findCardsByCompanyId(companyId, pageable);
 
-        return toPagedResponse(jobPage);
+        return PaginationUtil.buildPagedResponse(jobPage, jobPage.getContent());
     }
     
 
     // ==================================================
     // GET ALL JOBS
     // ==================================================
-    public PagedJobResponse getAllJobs(int page, int size) {
+    public PagedResponse<JobCard> getAllJobs(int page, int size, boolean includeTotal) {
+
+        if (page < CACHED_FEED_PAGES) {
+            return resultCache.get(
+                    ResultCache.FEED,
+                    CountCache.key(page, size, includeTotal),
+                    () -> loadAllJobs(page, size, includeTotal)
+            );
+        }
+        return loadAllJobs(page, size, includeTotal);
+    }
+
+    private PagedResponse<JobCard> loadAllJobs(int page, int size, boolean includeTotal) {
 
         Pageable pageable = PageRequest.of(
                 page,
@@ -253,10 +344,16 @@ public class JobService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<Job> jobPage =
-                jobRepository.findAll(JobSpecification.publicJobs(), pageable);
+        Specification<Job> spec = JobSpecification.publicJobs();
 
-        return toPagedResponse(jobPage.map(this::mapToResponse));
+        Slice<JobCard> jobSlice = findCardSlice(spec, pageable);
+
+        return PaginationUtil.buildPagedResponse(
+                jobSlice,
+                jobSlice.getContent(),
+                () -> countCache.get(CountCache.JOBS, "public", () -> jobRepository.count(spec)),
+                includeTotal
+        );
     }
 
 
@@ -266,12 +363,12 @@ public class JobService {
     // ==================================================
     public List<String> getTopIndustries(int limit) {
 
-        Pageable pageable = PageRequest.of(0, limit);
-
-        return jobRepository.findTopIndustries(pageable)
-                .stream()
-                .map(IndustryCount::getIndustry)
-                .toList();
+        return resultCache.get(ResultCache.TOP_INDUSTRIES, String.valueOf(limit), () ->
+                jobRepository.findTopIndustries(PageRequest.of(0, limit))
+                        .stream()
+                        .map(IndustryCount::getIndustry)
+                        .toList()
+        );
     }
 
     
@@ -279,46 +376,118 @@ public class JobService {
     // ==================================================
     // GET JOB BY iNDUSTRIES
     // ==================================================
-    public PagedJobResponse getJobsByIndustry(String industry, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-
-        Page<Job> jobPage = jobRepository.findByIndustryIgnoreCaseAndStatus(industry, JobStatus.OPEN, pageable);
+    public PagedResponse<JobCard> getJobsByIndustry(String industry, int page, int size, boolean includeTotal) {
+        return resultCache.get(
+                ResultCache.INDUSTRY,
+                ResultCache.industryKey(industry, page, size, includeTotal),
+                () -> loadJobsByIndustry(industry, page, size, includeTotal)
+        );
+    }
 
-        List<JobResponse> jobResponses = jobPage.getContent()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+    private PagedResponse<JobCard> loadJobsByIndustry(String industry, int page, int size, boolean includeTotal) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        return new PagedJobResponse(
-                jobResponses,
-                jobPage.getNumber(),
-                jobPage.getSize(),
-                jobPage.getTotalElements(),
-                jobPage.getTotalPages(),
-                jobPage.isLast()
-                );
+        Slice<JobCard> jobSlice = jobRepository.findCardsByIndustry(industry, JobStatus.OPEN, pageable);
+
+        return PaginationUtil.buildPagedResponse(
+                jobSlice,
+                jobSlice.getContent(),
+                () -> countCache.get(
+                        CountCache.JOBS,
+                        CountCache.key("industry", industry),
+                        () -> jobRepository.countByIndustryIgnoreCaseAndStatus(industry, JobStatus.OPEN)
+                ),
+                includeTotal
+        );
     }
      
     
+    // ==================================================
+    // CURSOR (KEYSET) FEEDS
+    // ==================================================
+    public CursorJobResponse scrollAllJobs(String cursor, int size) {
+
+        checkScrollSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+
+        List<JobCard> rows = jobRepository.findFeedBefore(
+                JobStatus.OPEN,
+                after.getCreatedAt(),
+                after.getId(),
+                Limit.of(size + 1)
+        );
+
+        return toCursorResponse(rows, size);
+    }
+
+
+    public CursorJobResponse scrollJobsByIndustry(String industry, String cursor, int size) {
+
+        checkScrollSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+
+        List<JobCard> rows = jobRepository.findIndustryFeedBefore(
+                industry,
+                JobStatus.OPEN,
+                after.getCreatedAt(),
+                after.getId(),
+                Limit.of(size + 1)
+        );
+
+        return toCursorResponse(rows, size);
+    }
+
+
+    public CursorJobResponse scrollSearchJobs(
+            JobSearchQuery query,
+            String cursor,
+            int size
+    ) {
+
+        checkScrollSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+
+        List<JobCard> rows;
+
+        if (jobSearchIndex.isReady()) {
+            rows = findCardsInOrder(
+                    jobSearchIndex.searchBefore(query, after.getCreatedAt(), after.getId(), size + 1)
+            );
+        } else {
+            Specification<Job> spec = JobSpecification.searchJobs(
+                    query.getKeyword(),
+                    query.getLocation(),
+                    query.getIndustry(),
+                    query.getCompanyName(),
+                    query.getMinExp(),
+                    query.getMaxExp(),
+                    query.getJobType(),
+                    query.getNoticePreference(),
+                    query.getMaxNoticePeriod(),
+                    query.getLwdPreferred(),
+                    null,
+                    true
+            ).and(JobSpecification.before(after));
+
+            Pageable firstRows = PageRequest.of(0, size + 1, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+            rows = findCardsInOrder(
+                    idSliceRepository.findIdSlice(Job.class, spec, firstRows).getContent()
+            );
+        }
+
+        return toCursorResponse(rows, size);
+    }
+
+
 	 // ==================================================
 	 // SEARCH PUBLIC JOBS
 	 // ==================================================
-	 public PagedJobResponse searchPublicJobs(
-	         String keyword,
-	         String location,
-	         String industry,
-	         String companyName,
-	         Integer minExp,
-	         Integer maxExp,
-	         JobType jobType,
-	
-	         // ===== LWD FILTERS =====
-	         NoticeStatus noticePreference,
-	         Integer maxNoticePeriod,
-	         Boolean lwdPreferred,
-	
+	 public PagedResponse<JobCard> searchPublicJobs(
+	         JobSearchQuery query,
 	         int page,
-	         int size
+	         int size,
+	         boolean includeTotal
 	 ) {
 	
 	     Pageable pageable = PageRequest.of(
@@ -327,24 +496,70 @@ public class JobService {
 	             Sort.by(Sort.Direction.DESC, "createdAt")
 	     );
 	
+	     // 🔥 Answer from the in-memory index, MySQL only hydrates the page
+	     if (jobSearchIndex.isReady()) {
+	
+	         JobSearchResult result = jobSearchIndex.search(query, page, size);
+	
+	         Page<JobCard> jobPage = new PageImpl<>(
+	                 findCardsInOrder(result.getIds()),
+	                 pageable,
+	                 result.getTotalElements()
+	         );
+	
+	         return PaginationUtil.buildPagedResponse(
+	                 jobPage,
+	                 jobPage.getContent(),
+	                 jobPage::getTotalElements,
+	                 includeTotal
+	         );
+	     }
+	
 	     Specification<Job> spec = JobSpecification.searchJobs(
-	             keyword,
-	             location,
-	             industry,
-	             companyName,
-	             minExp,
-	             maxExp,
-	             jobType,
-	             noticePreference,
-	             maxNoticePeriod,
-	             lwdPreferred,
+	             query.getKeyword(),
+	             query.getLocation(),
+	             query.getIndustry(),
+	             query.getCompanyName(),
+	             query.getMinExp(),
+	             query.getMaxExp(),
+	             query.getJobType(),
+	             query.getNoticePreference(),
+	             query.getMaxNoticePeriod(),
+	             query.getLwdPreferred(),
 	             null,      // status not allowed for public
 	             true       // isPublicRequest = true
 	     );
 	
-	     Page<Job> jobPage = jobRepository.findAll(spec, pageable);
+	     Slice<JobCard> jobSlice = findCardSlice(spec, pageable);
 	
-	     return toPagedResponse(jobPage.map(this::mapToResponse));
+	     return PaginationUtil.buildPagedResponse(
+	             jobSlice,
+	             jobSlice.getContent(),
+	             () -> countCache.get(CountCache.JOBS, countKey(query), () -> jobRepository.count(spec)),
+	             includeTotal
+	     );
+	 }
+
+
+	 // ==================================================
+	 // SEARCH FACETS
+	 // ==================================================
+	 public JobFacetsResponse getSearchFacets(JobSearchQuery query) {
+
+	     // Facets are only served from the index; empty until it has loaded
+	     if (!jobSearchIndex.isReady()) {
+	         return JobFacetsResponse.builder()
+	                 .totalElements(PaginationUtil.UNKNOWN_TOTAL)
+	                 .industry(Map.of())
+	                 .jobType(Map.of())
+	                 .location(Map.of())
+	                 .experience(Map.of())
+	                 .noticePreference(Map.of())
+	                 .lwdPreferred(Map.of())
+	                 .build();
+	     }
+
+	     return jobSearchIndex.facets(query, MAX_FACET_VALUES);
 	 }
 
 
@@ -353,36 +568,47 @@ public class JobService {
 	// SUGGESTED JOBS
 	// ==================================================
 
-    public PagedJobResponse getSuggestedJobs(Long userId, int page, int size) {
-        // 1️⃣ Get last applied job
-        List<Job> appliedJobs = jobRepository.findJobsByUserIdOrderByAppliedAtDesc(userId);
-        if (appliedJobs.isEmpty()) {
+    public PagedResponse<JobCard> getSuggestedJobs(Long userId, int page, int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+
+        // 🔥 Score every open job against the seeker's profile in memory
+        if (jobSearchIndex.isReady()) {
+
+            JobProfileQuery profile = jobRecommender.profileOf(userId);
+            if (profile.isEmpty()) {
+                throw new ResourceNotFoundException("No job history found");
+            }
+
+            JobSearchResult result = jobSearchIndex.recommend(profile, page, size);
+
+            Page<JobCard> jobPage = new PageImpl<>(
+                    findCardsInOrder(result.getIds()),
+                    pageable,
+                    result.getTotalElements()
+            );
+            return PaginationUtil.buildPagedResponse(jobPage, jobPage.getContent());
+        }
+
+        // Index still loading: same industry / location as the last application
+        List<JobDocument> lastApplied = jobApplicationRepository.findRecentAppliedJobs(userId, Limit.of(1));
+        if (lastApplied.isEmpty()) {
             throw new ResourceNotFoundException("No job history found");
         }
-        Job lastAppliedJob = appliedJobs.get(0);
 
-        // 2️⃣ Fetch suggested jobs with single query
-        List<Job> suggestedJobs = jobRepository.findSuggestedJobs(
+        Slice<JobCard> jobSlice = jobRepository.findSuggestedCards(
                 userId,
-                lastAppliedJob.getIndustry(),
-                lastAppliedJob.getLocation(),
-                PageRequest.of(page, size)
+                lastApplied.get(0).getIndustry(),
+                lastApplied.get(0).getLocation(),
+                pageable
         );
 
-        // 3️⃣ Convert to JobResponse
-        List<JobResponse> jobResponses = suggestedJobs.stream()
-                .map(this::mapToResponse)
-                .toList();
-
-        // 4️⃣ Wrap in Page object (for convenience)
-        Page<JobResponse> jobPage = new PageImpl<>(
-                jobResponses,
-                PageRequest.of(page, size),
-                suggestedJobs.size() // For real pagination, consider separate count query
+        return PaginationUtil.buildPagedResponse(
+                jobSlice,
+                jobSlice.getContent(),
+                () -> PaginationUtil.UNKNOWN_TOTAL,
+                false
         );
-
-        // 5️⃣ Convert to PagedJobResponse DTO
-        return toPagedResponse(jobPage);
     }
 
 
@@ -391,8 +617,17 @@ public class JobService {
     // ==================================================
     
     @Transactional(readOnly = true)
-    public List<JobResponse> getSimilarJobs(Long jobId) {
+    public List<JobCard> getSimilarJobs(Long jobId) {
 
+        // 🔥 Precomputed neighbours of an open job: one keyed lookup
+        if (similarJobsIndex.isReady()) {
+            List<Long> ids = similarJobsIndex.similarTo(jobId);
+            if (ids != null) {
+                return findCardsInOrder(ids);
+            }
+        }
+
+        // Closed jobs (or index still loading): same industry + job type
         Job job = getJobByIdInternal(jobId);
 
         Specification<Job> spec = JobSpecification.similarJobs(
@@ -407,13 +642,80 @@ public class JobService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        return jobRepository.findAll(spec, pageable)
+        return findCardSlice(spec, pageable).getContent();
+    }
+
+    
+    // ==================================================
+    // SKILL MATCHING
+    // ==================================================
+    @PreAuthorize("hasAnyRole('ADMIN','RECRUITER_ADMIN','RECRUITER')")
+    @Transactional(readOnly = true)
+    public PagedResponse<CandidateSkillMatchResponse> getMatchingCandidates(Long jobId, int page, int size) {
+
+        User user = getUserById(SecurityUtils.getUserId());
+        Job job = getJobByIdInternal(jobId);
+
+        validateOwnership(user, job);
+
+        SkillMatchResult result = skillMatchIndex().rankCandidates(jobId, page, size);
+
+        List<Long> ids = result.getMatches().stream().map(SkillMatch::getId).toList();
+        Map<Long, JobSeekerSearchResponse> byId = jobSeekerService.getSearchResponsesInOrder(ids)
                 .stream()
-                .map(this::mapToResponse)
+                .collect(Collectors.toMap(JobSeekerSearchResponse::getId, Function.identity()));
+
+        List<CandidateSkillMatchResponse> content = result.getMatches().stream()
+                .filter(match -> byId.containsKey(match.getId()))
+                .map(match -> CandidateSkillMatchResponse.builder()
+                        .candidate(byId.get(match.getId()))
+                        .matchedRequired(match.getMatchedRequired())
+                        .totalRequired(match.getTotalRequired())
+                        .matchedNiceToHave(match.getMatchedNiceToHave())
+                        .totalNiceToHave(match.getTotalNiceToHave())
+                        .build())
                 .toList();
+
+        Page<CandidateSkillMatchResponse> matchPage =
+                new PageImpl<>(content, PageRequest.of(page, size), result.getTotalElements());
+
+        return PaginationUtil.buildPagedResponse(matchPage, content);
     }
 
-    
+    public PagedResponse<JobSkillMatchResponse> getSkillMatchedJobs(Long userId, int page, int size) {
+
+        SkillMatchResult result = skillMatchIndex().rankJobs(userId, page, size);
+
+        List<Long> ids = result.getMatches().stream().map(SkillMatch::getId).toList();
+        Map<Long, JobCard> byId = findCardsInOrder(ids)
+                .stream()
+                .collect(Collectors.toMap(JobCard::getId, Function.identity()));
+
+        List<JobSkillMatchResponse> content = result.getMatches().stream()
+                .filter(match -> byId.containsKey(match.getId()))
+                .map(match -> JobSkillMatchResponse.builder()
+                        .job(byId.get(match.getId()))
+                        .matchedRequired(match.getMatchedRequired())
+                        .totalRequired(match.getTotalRequired())
+                        .matchedNiceToHave(match.getMatchedNiceToHave())
+                        .totalNiceToHave(match.getTotalNiceToHave())
+                        .build())
+                .toList();
+
+        Page<JobSkillMatchResponse> matchPage =
+                new PageImpl<>(content, PageRequest.of(page, size), result.getTotalElements());
+
+        return PaginationUtil.buildPagedResponse(matchPage, content);
+    }
+
+    private SkillMatchIndex skillMatchIndex() {
+        if (!skillMatchIndex.isReady()) {
+            throw new InvalidOperationException("Skill matching is still loading, please retry shortly");
+        }
+        return skillMatchIndex;
+    }
+
+
     // ==================================================
     // JOB SEARCH SUGGESTIONS
     // ==================================================
@@ -423,6 +725,11 @@ public class JobService {
             return List.of();
         }
 
+        // 🔥 Served from the in-memory tries once loaded
+        if (jobAutocomplete.isReady()) {
+            return jobAutocomplete.suggest(keyword, 3, 10);
+        }
+
         String lowerKeyword = keyword.toLowerCase().trim();
         Pageable limit = PageRequest.of(0, 3); // max 3 from each category
 
@@ -459,14 +766,19 @@ public class JobService {
     // TRENDING JOBS
     // ==================================================
     
-    public List<JobResponse> getTrendingJobs() {
+    public List<JobCard> getTrendingJobs() {
+
+        // 🔥 Ranked in memory (decayed views + applications); cards cached per ranking
+        if (trendingEngine.isReady()) {
+
+            List<Long> ids = trendingEngine.topJobIds(10);
+
+            return resultCache.get(ResultCache.TRENDING, ids.toString(), () -> findCardsInOrder(ids));
+        }
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        return jobRepository.findTrendingJobs(pageable)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return resultCache.get(ResultCache.TRENDING, "sql", () -> jobRepository.findTrendingCards(pageable));
     }
     
 
@@ -495,6 +807,38 @@ public class JobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
     }
 
+    //================= LOAD CARDS KEEPING ID ORDER =================
+    // Two-phase page: ids (+ sort key) first, then the listing cards
+    private Slice<JobCard> findCardSlice(Specification<Job> spec, Pageable pageable) {
+
+        Slice<Long> ids = idSliceRepository.findIdSlice(Job.class, spec, pageable);
+
+        return new SliceImpl<>(findCardsInOrder(ids.getContent()), pageable, ids.hasNext());
+    }
+
+    private List<JobCard> findCardsInOrder(List<Long> ids) {
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobCard> byId = jobRepository.findCardsByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(JobCard::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    //================= NOTIFY INDEXES / CACHES =================
+    private void publishChange(Job job, JobDocument before) {
+        eventPublisher.publishEvent(
+                new JobChangedEvent(job.getId(), before, JobDocument.from(job))
+        );
+    }
+
     //================= ADMIN =================
     private void validateOwnership(User user, Job job) {
         if (user.getRole() != Role.ADMIN &&
@@ -525,12 +869,57 @@ public class JobService {
                         request.getLwdPreferred() : false
                 )
                 
+                .requiredSkills(skillService.resolveSkills(request.getRequiredSkills()))
+                .niceToHaveSkills(skillService.resolveSkills(request.getNiceToHaveSkills()))
+
                 .company(company)
                 .createdBy(creator)
                 .build();
     }
 
 
+    // Limit.of(size + 1) and the last-row cursor need at least one row per page
+    private static void checkScrollSize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+    }
+
+    // size + 1 rows were fetched: the extra one only tells us there is a next page
+    private CursorJobResponse toCursorResponse(List<JobCard> rows, int size) {
+
+        boolean hasNext = rows.size() > size;
+        List<JobCard> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            JobCard last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new JobCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorJobResponse(
+                List.copyOf(pageRows),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    private static String countKey(JobSearchQuery query) {
+        return CountCache.key(
+                "search",
+                query.getKeyword(),
+                query.getLocation(),
+                query.getIndustry(),
+                query.getCompanyName(),
+                query.getMinExp(),
+                query.getMaxExp(),
+                query.getJobType(),
+                query.getNoticePreference(),
+                query.getMaxNoticePeriod(),
+                query.getLwdPreferred()
+        );
+    }
+
     private PagedJobResponse toPagedResponse(Page<JobResponse> page) {
         return new PagedJobResponse(
                 page.getContent(),
@@ -542,6 +931,13 @@ public class JobService {
         );
     }
 
+    private static List<String> skillNames(Set<Skill> skills) {
+        return skills.stream()
+                .map(Skill::getName)
+                .sorted()
+                .toList();
+    }
+
     private JobResponse mapToResponse(Job job) {
 
         Company company = job.getCompany();
@@ -569,6 +965,9 @@ public class JobService {
                 .maxNoticePeriod(job.getMaxNoticePeriod())
                 .lwdPreferred(job.getLwdPreferred())
 
+                .requiredSkills(skillNames(job.getRequiredSkills()))
+                .niceToHaveSkills(skillNames(job.getNiceToHaveSkills()))
+
                 .company(
                         CompanySummaryDTO.builder()
                                 .id(company.getId())
@@ -0,0 +1,100 @@
+package com.lwd.jobportal.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lwd.jobportal.event.JobSeekerChangedEvent;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves job seekers whose last working day has passed to IMMEDIATE_JOINER.
+ *
+ * Runs nightly (and once at startup to catch up on missed runs) in chunks:
+ * each chunk reads the next ids by keyset, flips them with one UPDATE and
+ * commits on its own, so a large backlog never holds one long transaction.
+ * A {@link JobSeekerChangedEvent} per profile keeps the in-memory indexes
+ * in step after each commit.
+ */
+@Slf4j
+@Service
+public class NoticeTransitionService {
+
+    private final JobSeekerRepository jobSeekerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public NoticeTransitionService(
+            JobSeekerRepository jobSeekerRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${lwd.notice-transition.chunk-size:500}") int chunkSize
+    ) {
+        this.jobSeekerRepository = jobSeekerRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        transitionLapsedNotices();
+    }
+
+    // Returns the number of profiles moved to IMMEDIATE_JOINER
+    @Scheduled(cron = "${lwd.notice-transition.cron:0 5 0 * * *}")
+    public synchronized int transitionLapsedNotices() {
+
+        LocalDate today = LocalDate.now();
+        long afterId = 0;
+        int moved = 0;
+
+        try {
+            while (true) {
+
+                long from = afterId;
+                List<Object[]> chunk = jobSeekerRepository.findLapsedNoticeProfiles(today, from, Limit.of(chunkSize));
+
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                List<Long> ids = chunk.stream().map(row -> (Long) row[0]).toList();
+
+                moved += transactionTemplate.execute(status -> {
+
+                    int updated = jobSeekerRepository.markImmediateJoiners(ids, today);
+
+                    // delivered after this chunk commits
+                    for (Object[] row : chunk) {
+                        eventPublisher.publishEvent(new JobSeekerChangedEvent((Long) row[1]));
+                    }
+                    return updated;
+                });
+
+                afterId = ids.get(ids.size() - 1);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Notice transition stopped after {} profiles", moved, ex);
+            return moved;
+        }
+
+        if (moved > 0) {
+            log.info("Moved {} job seekers past their last working day to IMMEDIATE_JOINER", moved);
+        }
+        return moved;
+    }
+}
@@ -9,7 +9,7 @@ import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.ApplicationStatus;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.Role;
-import com.lwd.jobportal.repository.JobApplicationRepository;
+import com.lwd.jobportal.repository.JobApplicationStatsRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +17,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,7 +28,8 @@ public class RecruiterAdminDashboardService {
 
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
-    private final JobApplicationRepository applicationRepository;
+    private final JobApplicationStatsRepository statsRepository;
+    private final ApplicationFunnelService applicationFunnelService;
 
     public RecruiterAdminDashboardDTO getDashboard(Long companyId) {
         RecruiterAdminDashboardDTO dto = new RecruiterAdminDashboardDTO();
@@ -41,7 +44,10 @@ public class RecruiterAdminDashboardService {
         dto.setTotalJobsPosted(jobRepository.countByCompanyId(companyId));
         dto.setActiveJobs(jobRepository.countByCompanyIdAndStatus(companyId, JobStatus.OPEN));
         dto.setClosedJobs(jobRepository.countByCompanyIdAndStatus(companyId, JobStatus.CLOSED));
-        dto.setTotalApplications(applicationRepository.countByJobCompanyId(companyId));
+
+        // company funnel counters: a few rows instead of counting applications
+        Map<ApplicationStatus, Long> funnel = applicationFunnelService.getCompanyFunnel(companyId);
+        dto.setTotalApplications(funnel.values().stream().mapToLong(Long::longValue).sum());
 
         // ---------- RECRUITER PERFORMANCE ----------
         dto.setRecruiterPerformance(getRecruiterPerformance(companyId));
@@ -57,7 +63,7 @@ public class RecruiterAdminDashboardService {
         );
 
         // ---------- HIRING FUNNEL ----------
-        dto.setHiringFunnel(getHiringFunnel(companyId));
+        dto.setHiringFunnel(getHiringFunnel(funnel));
 
         return dto;
     }
@@ -70,12 +76,18 @@ public class RecruiterAdminDashboardService {
                 List.of(Role.RECRUITER, Role.RECRUITER_ADMIN)
         );
 
+        // applications per recruiter from the per-job stats, one query for the company
+        Map<Long, Long> applicationsByRecruiter = new HashMap<>();
+        for (Object[] row : statsRepository.sumTotalByCreatorForCompany(companyId)) {
+            applicationsByRecruiter.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
         return recruiters.stream()
                 .map(recruiter -> {
                     RecruiterPerformanceDTO perf = new RecruiterPerformanceDTO();
                     perf.setRecruiterName(recruiter.getName());
                     perf.setJobsPosted(jobRepository.countByCreatedById(recruiter.getId()));
-                    perf.setApplicationsReceived(applicationRepository.countByJobCreatedById(recruiter.getId()));
+                    perf.setApplicationsReceived(applicationsByRecruiter.getOrDefault(recruiter.getId(), 0L));
                     perf.setActiveJobs(jobRepository.countByCreatedByIdAndStatus(recruiter.getId(), JobStatus.OPEN));
                     return perf;
                 })
@@ -90,13 +102,10 @@ public class RecruiterAdminDashboardService {
         return dto;
     }
 
-    private HiringFunnelDTO getHiringFunnel(Long companyId) {
-        List<Object[]> results = applicationRepository.countByStatusForCompany(companyId);
+    private HiringFunnelDTO getHiringFunnel(Map<ApplicationStatus, Long> counts) {
         HiringFunnelDTO funnel = new HiringFunnelDTO();
 
-        for (Object[] row : results) {
-            ApplicationStatus status = (ApplicationStatus) row[0];
-            Long count = (Long) row[1];
+        counts.forEach((status, count) -> {
             switch (status) {
                 case APPLIED:
                     funnel.setApplied(count);
@@ -116,7 +125,7 @@ public class RecruiterAdminDashboardService {
                 default:
                     // ignore
             }
-        }
+        });
         return funnel;
     }
 }
\ No newline at end of file
@@ -3,15 +3,17 @@ package com.lwd.jobportal.service;
 import com.lwd.jobportal.dto.jobapplicationdto.RecentApplicationDTO;
 import com.lwd.jobportal.dto.jobdto.JobStatsDTO;
 import com.lwd.jobportal.dto.recruiterdto.*;
+import com.lwd.jobportal.dto.jobdto.JobApplicationStatsDTO;
 import com.lwd.jobportal.entity.Job;
 import com.lwd.jobportal.entity.JobApplication;
-import com.lwd.jobportal.enums.ApplicationStatus;
+import com.lwd.jobportal.entity.JobApplicationStats;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.repository.JobApplicationRepository;
-import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.JobApplicationStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,25 +21,41 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecruiterDashboardService {
 
-    private final JobRepository jobRepository;
     private final JobApplicationRepository applicationRepository;
+    private final JobApplicationStatsRepository statsRepository;
 
     public RecruiterDashboardDTO getDashboard(Long recruiterId) {
         RecruiterDashboardDTO dto = new RecruiterDashboardDTO();
 
+        // One query: every job of the recruiter with its stats row (see job_application_stats)
+        List<Object[]> rows = statsRepository.findJobsWithStatsByCreatedById(recruiterId);
+
         // ---------- SUMMARY CARDS ----------
-        dto.setMyPostedJobs(jobRepository.countByCreatedById(recruiterId));
-        dto.setMyActiveJobs(jobRepository.countByCreatedByIdAndStatus(recruiterId, JobStatus.OPEN)); // OPEN not ACTIVE
-        dto.setTotalApplications(applicationRepository.countByJobCreatedById(recruiterId));
-        dto.setInterviewsScheduled(
-                applicationRepository.countByJobCreatedByIdAndStatus(recruiterId, ApplicationStatus.INTERVIEW_SCHEDULED)
-        );
-        dto.setShortlistedCandidates(
-                applicationRepository.countByJobCreatedByIdAndStatus(recruiterId, ApplicationStatus.SHORTLISTED)
-        );
+        long activeJobs = 0, totalApplications = 0, interviews = 0, shortlisted = 0;
+        List<JobStatsDTO> perJobStats = new ArrayList<>(rows.size());
+
+        for (Object[] row : rows) {
+            Job job = (Job) row[0];
+            JobApplicationStatsDTO stats = JobApplicationStatsDTO.from((JobApplicationStats) row[1]);
+
+            if (job.getStatus() == JobStatus.OPEN) { // OPEN not ACTIVE
+                activeJobs++;
+            }
+            totalApplications += stats.getTotal();
+            interviews += stats.getInterview();
+            shortlisted += stats.getShortlisted();
+
+            perJobStats.add(mapToJobStats(job, stats));
+        }
+
+        dto.setMyPostedJobs(rows.size());
+        dto.setMyActiveJobs(activeJobs);
+        dto.setTotalApplications(totalApplications);
+        dto.setInterviewsScheduled(interviews);
+        dto.setShortlistedCandidates(shortlisted);
 
         // ---------- PER JOB STATS ----------
-        dto.setPerJobStats(getPerJobStats(recruiterId));
+        dto.setPerJobStats(perJobStats);
 
         // ---------- RECENT APPLICATIONS (last 5) ----------
         dto.setRecentApplications(
@@ -52,36 +70,20 @@ public class RecruiterDashboardService {
 
     // ==================== PRIVATE HELPERS ====================
 
-    private List<JobStatsDTO> getPerJobStats(Long recruiterId) {
-        List<Job> jobs = jobRepository.findByCreatedById(recruiterId);
-        return jobs.stream()
-                .map(job -> {
-                    JobStatsDTO stats = new JobStatsDTO();
-                    stats.setJobTitle(job.getTitle());
-
-                    long totalApps = applicationRepository.countByJobId(job.getId());
-                    stats.setApplications(totalApps);
-
-                    long shortlisted = applicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.SHORTLISTED);
-                    stats.setShortlisted(shortlisted);
-
-                    long rejected = applicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.REJECTED);
-                    stats.setRejected(rejected);
+    private JobStatsDTO mapToJobStats(Job job, JobApplicationStatsDTO counts) {
+        JobStatsDTO stats = new JobStatsDTO();
+        stats.setJobTitle(job.getTitle());
+        stats.setApplications(counts.getTotal());
+        stats.setShortlisted(counts.getShortlisted());
+        stats.setRejected(counts.getRejected());
 
-                    // Pending = APPLIED + INTERVIEW_SCHEDULED (not shortlisted/rejected/selected/hired)
-                    long pending = applicationRepository.countByJobIdAndStatusIn(
-                            job.getId(),
-                            List.of(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW_SCHEDULED)
-                    );
-                    stats.setPending(pending);
+        // Pending = APPLIED + INTERVIEW_SCHEDULED (not shortlisted/rejected/selected/hired)
+        stats.setPending(counts.getApplied() + counts.getInterview());
 
-                    // Optional: interview count separately
-                    long interview = applicationRepository.countByJobIdAndStatus(job.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
-                    stats.setInterview(interview);
+        // Optional: interview count separately
+        stats.setInterview(counts.getInterview());
 
-                    return stats;
-                })
-                .collect(Collectors.toList());
+        return stats;
     }
 
     private RecentApplicationDTO mapToRecentApplication(JobApplication app) {
@@ -10,16 +10,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.lwd.jobportal.dto.jobapplicationdto.JobApplicationResponse;
 import com.lwd.jobportal.dto.jobapplicationdto.PagedApplicationsResponse;
+import com.lwd.jobportal.dto.jobdto.JobApplicationStatsDTO;
 import com.lwd.jobportal.dto.jobdto.JobSummaryDTO;
 import com.lwd.jobportal.entity.Company;
 import com.lwd.jobportal.entity.Job;
 import com.lwd.jobportal.entity.JobApplication;
+import com.lwd.jobportal.entity.JobApplicationStats;
 import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.Role;
 import com.lwd.jobportal.enums.UserStatus;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.CompanyRepository;
 import com.lwd.jobportal.repository.JobApplicationRepository;
+import com.lwd.jobportal.repository.JobApplicationStatsRepository;
 import com.lwd.jobportal.repository.JobRepository;
 import com.lwd.jobportal.repository.UserRepository;
 import com.lwd.jobportal.security.SecurityUtils;
@@ -35,6 +38,7 @@ public class RecruiterService {
     private final CompanyRepository companyRepository;
     private final JobRepository jobRepository;
     private final JobApplicationRepository jobApplicationRepository;
+    private final JobApplicationStatsRepository jobApplicationStatsRepository;
 
     // ================= REQUEST COMPANY APPROVAL =================
     @PreAuthorize("hasRole('RECRUITER')")
@@ -79,21 +83,27 @@ public class RecruiterService {
 
         User recruiter = validateActiveRecruiter();
 
-        return jobRepository.findByCreatedById(recruiter.getId())
+        // jobs and their application counts in one query
+        return jobApplicationStatsRepository.findJobsWithStatsByCreatedById(recruiter.getId())
                 .stream()
-                .map(job -> JobSummaryDTO.builder()
-                        .id(job.getId())
-                        .title(job.getTitle())
-                        .location(job.getLocation())
-                        .jobType(job.getJobType())
-                        .minExperience(job.getMinExperience())
-                        .maxExperience(job.getMaxExperience())
-                        .status(job.getStatus())
-                        .createdAt(job.getCreatedAt())
-                        .build())
+                .map(row -> toJobSummary((Job) row[0], (JobApplicationStats) row[1]))
                 .toList();
     }
 
+    private JobSummaryDTO toJobSummary(Job job, JobApplicationStats stats) {
+        return JobSummaryDTO.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .location(job.getLocation())
+                .jobType(job.getJobType())
+                .minExperience(job.getMinExperience())
+                .maxExperience(job.getMaxExperience())
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .applications(JobApplicationStatsDTO.from(stats))
+                .build();
+    }
+
     // ================= GET APPLICATIONS =================
     @Transactional(readOnly = true)
     public PagedApplicationsResponse getApplicationsForJob(
@@ -0,0 +1,177 @@
+package com.lwd.jobportal.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lwd.jobportal.dto.comman.PagedResponse;
+import com.lwd.jobportal.dto.comman.PaginationUtil;
+import com.lwd.jobportal.dto.jobdto.JobCard;
+import com.lwd.jobportal.dto.jobseekerdto.JobAlertResponse;
+import com.lwd.jobportal.dto.jobseekerdto.SavedSearchRequest;
+import com.lwd.jobportal.dto.jobseekerdto.SavedSearchResponse;
+import com.lwd.jobportal.entity.JobAlert;
+import com.lwd.jobportal.entity.SavedSearch;
+import com.lwd.jobportal.event.SavedSearchChangedEvent;
+import com.lwd.jobportal.exception.InvalidOperationException;
+import com.lwd.jobportal.exception.ResourceNotFoundException;
+import com.lwd.jobportal.repository.JobAlertRepository;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.SavedSearchRepository;
+import com.lwd.jobportal.search.SavedSearchPercolator;
+import com.lwd.jobportal.security.SecurityUtils;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+    private static final int MAX_SAVED_SEARCHES = 20;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JobAlertRepository jobAlertRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+
+    // =====================================================
+    // SAVED SEARCHES
+    // =====================================================
+    @Transactional
+    public SavedSearchResponse createSavedSearch(SavedSearchRequest request) {
+
+        Long userId = SecurityUtils.getUserId();
+
+        if (savedSearchRepository.countByUserId(userId) >= MAX_SAVED_SEARCHES) {
+            throw new InvalidOperationException(
+                    "You can save at most " + MAX_SAVED_SEARCHES + " searches");
+        }
+
+        SavedSearch saved = savedSearchRepository.save(
+                SavedSearch.builder()
+                        .userId(userId)
+                        .name(request.getName().trim())
+                        .keyword(request.getKeyword())
+                        .location(request.getLocation())
+                        .industry(request.getIndustry())
+                        .companyName(request.getCompanyName())
+                        .minExp(request.getMinExp())
+                        .maxExp(request.getMaxExp())
+                        .jobType(request.getJobType())
+                        .noticePreference(request.getNoticePreference())
+                        .maxNoticePeriod(request.getMaxNoticePeriod())
+                        .lwdPreferred(request.getLwdPreferred())
+                        .build()
+        );
+
+        // 🔥 Registered in the percolator after commit
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(
+                saved.getId(), userId, SavedSearchPercolator.toQuery(saved)));
+
+        return mapToResponse(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getMySavedSearches() {
+        return savedSearchRepository.findByUserIdOrderByCreatedAtDesc(SecurityUtils.getUserId())
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long savedSearchId) {
+
+        Long userId = SecurityUtils.getUserId();
+
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUserId(savedSearchId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found"));
+
+        jobAlertRepository.deleteBySavedSearchId(savedSearchId);
+        savedSearchRepository.delete(savedSearch);
+
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(savedSearchId, userId, null));
+    }
+
+
+    // =====================================================
+    // JOB ALERTS
+    // =====================================================
+    @Transactional(readOnly = true)
+    public PagedResponse<JobAlertResponse> getMyAlerts(int page, int size) {
+
+        Long userId = SecurityUtils.getUserId();
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        Page<JobAlert> alertPage = jobAlertRepository.findByUserId(userId, pageable);
+
+        if (alertPage.isEmpty()) {
+            return PaginationUtil.buildPagedResponse(alertPage, List.of());
+        }
+
+        // one query for the cards, one for the search names
+        Map<Long, JobCard> cards = jobRepository.findCardsByIdIn(
+                        alertPage.stream().map(JobAlert::getJobId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(JobCard::getId, Function.identity()));
+
+        Map<Long, String> names = savedSearchRepository.findByUserIdOrderByCreatedAtDesc(userId)
+                .stream()
+                .collect(Collectors.toMap(SavedSearch::getId, SavedSearch::getName));
+
+        List<JobAlertResponse> content = alertPage.stream()
+                .map(alert -> JobAlertResponse.builder()
+                        .id(alert.getId())
+                        .savedSearchId(alert.getSavedSearchId())
+                        .savedSearchName(names.get(alert.getSavedSearchId()))
+                        .job(cards.get(alert.getJobId()))
+                        .createdAt(alert.getCreatedAt())
+                        .seen(alert.getSeen())
+                        .build())
+                .toList();
+
+        return PaginationUtil.buildPagedResponse(alertPage, content);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnseenAlerts() {
+        return jobAlertRepository.countByUserIdAndSeenFalse(SecurityUtils.getUserId());
+    }
+
+    @Transactional
+    public int markAlertsSeen() {
+        return jobAlertRepository.markAllSeen(SecurityUtils.getUserId());
+    }
+
+
+    // =====================================================
+    // MAPPINGS
+    // =====================================================
+    private SavedSearchResponse mapToResponse(SavedSearch savedSearch) {
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .keyword(savedSearch.getKeyword())
+                .location(savedSearch.getLocation())
+                .industry(savedSearch.getIndustry())
+                .companyName(savedSearch.getCompanyName())
+                .minExp(savedSearch.getMinExp())
+                .maxExp(savedSearch.getMaxExp())
+                .jobType(savedSearch.getJobType())
+                .noticePreference(savedSearch.getNoticePreference())
+                .maxNoticePeriod(savedSearch.getMaxNoticePeriod())
+                .lwdPreferred(savedSearch.getLwdPreferred())
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
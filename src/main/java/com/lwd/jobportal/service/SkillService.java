@@ -0,0 +1,249 @@
+package com.lwd.jobportal.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lwd.jobportal.dto.comman.PagedResponse;
+import com.lwd.jobportal.dto.comman.PaginationUtil;
+import com.lwd.jobportal.dto.jobseekerdto.SkillResponseDTO;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.repository.SkillRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Skill dictionary: normalized (trimmed, lower-case) name → skill, kept in
+ * a concurrent sorted map loaded at startup.
+ *
+ * Resolving names is a map lookup; only unknown names go to MySQL, as one
+ * batched INSERT IGNORE (the unique name index absorbs concurrent inserts)
+ * plus one re-select by name. Skill listing is answered from the same map;
+ * autocomplete is a range scan of a second sorted map keyed by every word
+ * of every name ("boot" → Spring Boot), never a scan of the whole
+ * dictionary.
+ *
+ * Skills are only ever added, so the map never has to forget an entry.
+ */
+@Slf4j
+@Service
+public class SkillService {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO skills (name) VALUES (?)";
+
+    // "c++", "c#", "node.js" stay one word
+    private static final String WORD_SEPARATORS = "[\\s/(),-]+";
+
+    private final SkillRepository skillRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+
+    private final ConcurrentSkipListMap<String, SkillResponseDTO> skillsByName = new ConcurrentSkipListMap<>();
+
+    // "word\0name" → skill, for the full name and each of its words
+    private final ConcurrentSkipListMap<String, SkillResponseDTO> skillsByWord = new ConcurrentSkipListMap<>();
+
+    private volatile boolean ready = false;
+
+    public SkillService(
+            SkillRepository skillRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.skillRepository = skillRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+
+    // ==================================================
+    // LOAD
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            skillRepository.findAll().forEach(this::remember);
+            ready = true;
+            log.info("Skill dictionary loaded with {} skills", skillsByName.size());
+        } catch (RuntimeException ex) {
+            log.error("Skill dictionary could not be loaded, falling back to SQL", ex);
+        }
+    }
+
+
+    // =====================================================
+    // RESOLVE SKILL NAMES (shared by job seekers and jobs)
+    // =====================================================
+    // Existing skills are reused, missing ones are created
+    @Transactional
+    public Set<Skill> resolveSkills(Collection<String> skillNames) {
+
+        if (skillNames == null || skillNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        // =====================================================
+        // 1️⃣ Normalize + Remove duplicates
+        // =====================================================
+        Set<String> normalizedNames = skillNames.stream()
+                .filter(Objects::nonNull)
+                .map(SkillService::normalize)
+                .filter(name -> !name.isBlank())
+                .collect(Collectors.toSet());
+
+        if (normalizedNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        // =====================================================
+        // 2️⃣ Known skills straight from the dictionary
+        // =====================================================
+        Set<Long> skillIds = new HashSet<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String name : normalizedNames) {
+            SkillResponseDTO known = ready ? skillsByName.get(name) : null;
+            if (known != null) {
+                skillIds.add(known.getId());
+            } else {
+                missing.add(name);
+            }
+        }
+
+        // =====================================================
+        // 3️⃣ Unknown skills: batched INSERT IGNORE + re-select
+        // =====================================================
+        if (!missing.isEmpty()) {
+            for (Skill skill : insertMissing(missing)) {
+                remember(skill);
+                skillIds.add(skill.getId());
+            }
+        }
+
+        // references only: the join table needs ids, not loaded rows
+        return skillIds.stream()
+                .map(skillRepository::getReferenceById)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    // Committed on its own so the dictionary never holds a rolled-back id
+    private List<Skill> insertMissing(List<String> names) {
+
+        return newTransaction.execute(status -> {
+
+            jdbcTemplate.batchUpdate(
+                    INSERT_SQL,
+                    names.stream().map(name -> new Object[] {name}).toList()
+            );
+
+            return skillRepository.findByNameIn(names);
+        });
+    }
+
+
+    // =====================================================
+    // LIST / AUTOCOMPLETE
+    // =====================================================
+    @Transactional(readOnly = true)
+    public PagedResponse<SkillResponseDTO> getAllSkills(
+            String keyword,
+            Integer page,
+            Integer size
+    ) {
+
+        Pageable pageable = PageRequest.of(
+                page == null ? 0 : page,
+                size == null ? 10 : size,
+                Sort.by("name").ascending()
+        );
+
+        String term = keyword != null ? normalize(keyword) : "";
+
+        if (!ready) {
+            Page<Skill> skillPage = term.isEmpty()
+                    ? skillRepository.findAll(pageable)
+                    : skillRepository.findByNameContainingIgnoreCase(term, pageable);
+
+            return PaginationUtil.buildPagedResponse(
+                    skillPage,
+                    skillPage.map(skill -> SkillResponseDTO.builder()
+                            .id(skill.getId())
+                            .name(skill.getName())
+                            .build()).getContent()
+            );
+        }
+
+        // names are the map keys, so matches come out in name order
+        List<SkillResponseDTO> matches = term.isEmpty()
+                ? new ArrayList<>(skillsByName.values())
+                : findByWordPrefix(term);
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+
+        Page<SkillResponseDTO> skillPage = new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+
+        return PaginationUtil.buildPagedResponse(skillPage, skillPage.getContent());
+    }
+
+
+    // Skills with a word (or the whole name) starting with the term, in name order
+    private List<SkillResponseDTO> findByWordPrefix(String term) {
+
+        Map<String, SkillResponseDTO> found = new TreeMap<>();
+
+        for (SkillResponseDTO skill : skillsByWord.subMap(term, term + Character.MAX_VALUE).values()) {
+            found.putIfAbsent(normalize(skill.getName()), skill);
+        }
+        return new ArrayList<>(found.values());
+    }
+
+
+    // ================= HELPERS =================
+    private void remember(Skill skill) {
+
+        String name = normalize(skill.getName());
+        SkillResponseDTO dto = SkillResponseDTO.builder()
+                .id(skill.getId())
+                .name(skill.getName())
+                .build();
+
+        if (skillsByName.putIfAbsent(name, dto) != null) {
+            return;
+        }
+
+        skillsByWord.put(name + '\0' + name, dto);
+        for (String word : name.split(WORD_SEPARATORS)) {
+            if (!word.isEmpty()) {
+                skillsByWord.put(word + '\0' + name, dto);
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,11 +1,14 @@
 package com.lwd.jobportal.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.lwd.jobportal.dto.userdto.UpdateUserRequest;
 import com.lwd.jobportal.dto.userdto.UserResponse;
 import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.event.JobSeekerChangedEvent;
 import com.lwd.jobportal.exception.ResourceNotFoundException;
 import com.lwd.jobportal.repository.UserRepository;
 
@@ -17,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ✅ Update logged-in or admin-managed user profile
     public UserResponse updateUser(Long userId, UpdateUserRequest request) {
@@ -24,9 +28,14 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        if (request.getName() != null)
+        if (request.getName() != null && !request.getName().equals(user.getName())) {
             user.setName(request.getName());
 
+            // candidate search indexes the name
+            if (user.getRole() == Role.JOB_SEEKER)
+                eventPublisher.publishEvent(new JobSeekerChangedEvent(userId));
+        }
+
         if (request.getPhone() != null)
             user.setPhone(request.getPhone());
 
@@ -32,7 +32,7 @@ public class JobSeekerSpecification {
 
         return (root, query, cb) -> {
 
-            boolean isCountQuery = query.getResultType() == Long.class;
+            boolean isEntityQuery = query.getResultType() == JobSeeker.class;
 
             boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
             boolean hasSkills = skillNames != null && !skillNames.isEmpty();
@@ -40,16 +40,18 @@ public class JobSeekerSpecification {
             // ===============================
             // 🔥 FIX N+1 HERE
             // ===============================
-            if (!isCountQuery) {
+            // Not for COUNT or id-only (Tuple) queries. Skills are never
+            // fetch-joined: a collection fetch with a Pageable makes Hibernate
+            // paginate in memory (HHH90003004). Callers page ids and bulk load
+            // skill names instead.
+            if (isEntityQuery) {
 
                 // Fetch user always (needed in DTO)
                 root.fetch("user", JoinType.LEFT);
+            }
 
-                // Fetch skills ONLY when filtering by skill or keyword
-                if (hasKeyword || hasSkills) {
-                    root.fetch("skills", JoinType.LEFT);
-                }
-
+            // The skills join multiplies rows (also makes COUNT distinct)
+            if (isEntityQuery || hasKeyword || hasSkills) {
                 query.distinct(true);
             }
 
@@ -1,18 +1,18 @@
 package com.lwd.jobportal.specification;
 
+import com.lwd.jobportal.dto.jobdto.JobCursor;
 import com.lwd.jobportal.entity.Job;
-import com.lwd.jobportal.entity.User;
 import com.lwd.jobportal.enums.JobStatus;
 import com.lwd.jobportal.enums.JobType;
 import com.lwd.jobportal.enums.NoticeStatus;
 
 import org.springframework.data.jpa.domain.Specification;
 
-import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -41,7 +41,8 @@ public class JobSpecification {
 
         return (root, query, cb) -> {
 
-            query.distinct(true);
+            // Only to-one joins below, no DISTINCT needed (it forced MySQL
+            // to sort and de-duplicate full rows before LIMIT)
 
             List<Predicate> predicates = new ArrayList<>();
 
@@ -188,10 +189,10 @@ public class JobSpecification {
     public static Specification<Job> publicJobs() {
         return (root, query, cb) -> {
 
-            if (query.getResultType() != Long.class) {
+            // Entity queries only: not for COUNT or id-only (Tuple) queries
+            if (query.getResultType() == Job.class) {
                 root.fetch("company", JoinType.LEFT);
                 root.fetch("createdBy", JoinType.LEFT);
-                query.distinct(true);
             }
 
             return cb.and(
@@ -208,19 +209,9 @@ public class JobSpecification {
     ) {
         return (root, query, cb) -> {
 
-            if (query.getResultType() != Long.class) {
-
-                // Fetch Job → Company
+            // to-one fetches only: no duplicates, no DISTINCT needed
+            if (query.getResultType() == Job.class) {
                 root.fetch("company", JoinType.LEFT);
-
-                // Fetch Job → CreatedBy
-                Fetch<Job, User> userFetch =
-                        root.fetch("createdBy", JoinType.LEFT);
-
-                // Fetch CreatedBy → Company (if needed)
-                userFetch.fetch("company", JoinType.LEFT);
-
-                query.distinct(true);
             }
 
             return cb.and(
@@ -234,4 +225,21 @@ public class JobSpecification {
     }
 
 
+    // Keyset condition: rows strictly after the cursor in (createdAt DESC, id DESC) order
+    public static Specification<Job> before(JobCursor cursor) {
+        return (root, query, cb) -> {
+
+            LocalDateTime createdAt = cursor.getCreatedAt();
+
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                    cb.or(
+                            cb.lessThan(root.get("createdAt"), createdAt),
+                            cb.lessThan(root.get("id"), cursor.getId())
+                    )
+            );
+        };
+    }
+
+
 }
@@ -0,0 +1,447 @@
+package com.lwd.jobportal.tracking;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lwd.jobportal.dto.admin.ApplicationIngestStatsDTO;
+import com.lwd.jobportal.event.JobAppliedEvent;
+import com.lwd.jobportal.exception.TooManyRequestsException;
+import com.lwd.jobportal.service.ApplicationFunnelService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Buffered ingestion of job applications for burst traffic (campus drives).
+ *
+ * When enabled, the apply path validates, appends the application to a
+ * local log segment, puts it on a bounded queue and answers 202. A
+ * scheduled writer drains the queue with batched inserts through JDBC (no
+ * Hibernate entity, so IDENTITY ids do not stop batching);
+ * {@code ON DUPLICATE KEY UPDATE} on the unique (job, job seeker) index
+ * skips duplicates and makes a retried or replayed batch harmless, while
+ * every other error still fails the insert. Each chunk logs its new
+ * applications to the status event log in the same transaction. A full
+ * queue is answered with 429.
+ *
+ * A chunk the database refuses (deleted job or job seeker, value too long)
+ * is written again row by row; rows that still fail are appended to
+ * dead-letter.log with the error instead of being dropped. Other failures
+ * (connection, deadlock) retry the rest of the batch on the next flush;
+ * until that retry goes through the queue is not drained, so during an
+ * outage it fills up and new applications get 429 instead of piling up in
+ * memory.
+ *
+ * The log is rotated at every drain and a segment is deleted only once all
+ * of its rows are written, so applications acknowledged before a crash are
+ * replayed from the leftover segments at startup. With
+ * {@code lwd.apply-ingest.fsync} every append is forced to disk before the
+ * 202 and the log survives a host crash; without it appends only reach the
+ * OS, which survives a process crash but not a power loss.
+ */
+@Slf4j
+@Component
+public class ApplicationIngestQueue {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO job_applications (job_id, job_seeker_id, application_source,
+                                          full_name, email, phone, skills, cover_letter, resume_url,
+                                          status, applied_at, updated_at)
+            VALUES (?, ?, 'PORTAL', ?, ?, ?, ?, ?, ?, 'APPLIED', ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+    private static final int BATCH_SIZE = 500;
+    private static final String SEGMENT_PREFIX = "applications-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationFunnelService applicationFunnelService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+    private final int capacity;
+    private final Path logDir;
+    private final boolean fsync;
+    private final long retryAfterSeconds;
+
+    private final ArrayBlockingQueue<Entry> queue;
+    // (job, job seeker) pairs acknowledged but not written yet
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    // ===== guarded by appendLock =====
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private Path segment;
+    private FileChannel segmentChannel;
+    private int segmentEntries;
+    private long segmentSequence;
+
+    // ===== guarded by this (flush) =====
+    private final List<Entry> retry = new ArrayList<>();
+    private final List<Path> unwrittenSegments = new ArrayList<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private volatile int retrying;
+    private volatile LocalDateTime lastFlushAt;
+    private volatile long lastFlushMillis;
+
+
+    // A row the database refused, as written to dead-letter.log
+    record DeadLetter(Entry application, String error, long failedAtMillis) {}
+
+    // One queued application; also the JSON line written to the log
+    public record Entry(
+            Long jobId,
+            Long companyId,
+            Long jobSeekerId,
+            String fullName,
+            String email,
+            String phone,
+            String skills,
+            String coverLetter,
+            String resumeUrl,
+            long appliedAtMillis
+    ) {
+        String key() {
+            return jobId + ":" + jobSeekerId;
+        }
+    }
+
+
+    public ApplicationIngestQueue(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationFunnelService applicationFunnelService,
+            ApplicationEventPublisher eventPublisher,
+            JsonMapper jsonMapper,
+            @Value("${lwd.apply-ingest.enabled:false}") boolean enabled,
+            @Value("${lwd.apply-ingest.capacity:20000}") int capacity,
+            @Value("${lwd.apply-ingest.log-dir:data/apply-ingest}") String logDir,
+            @Value("${lwd.apply-ingest.fsync:true}") boolean fsync,
+            @Value("${lwd.apply-ingest.flush-interval-ms:1000}") long flushIntervalMs
+    ) throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationFunnelService = applicationFunnelService;
+        this.eventPublisher = eventPublisher;
+        this.jsonMapper = jsonMapper;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.logDir = Path.of(logDir);
+        this.fsync = fsync;
+        this.retryAfterSeconds = Math.max(1, (flushIntervalMs + 999) / 1000);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        Files.createDirectories(this.logDir);
+        replayLeftoverSegments();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+
+    // ==================================================
+    // ENQUEUE (request thread)
+    // ==================================================
+    // false when the same job seeker already has this job queued
+    public boolean enqueue(Entry entry) {
+
+        if (!pendingKeys.add(entry.key())) {
+            return false;
+        }
+
+        appendLock.lock();
+        try {
+            if (queue.remainingCapacity() == 0) {
+                pendingKeys.remove(entry.key());
+                rejected.increment();
+                throw new TooManyRequestsException(
+                        "Too many applications right now, please retry shortly", retryAfterSeconds);
+            }
+
+            append(entry);
+            queue.add(entry);
+            accepted.increment();
+            return true;
+
+        } catch (IOException ex) {
+            pendingKeys.remove(entry.key());
+            throw new UncheckedIOException("Application could not be logged", ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // One JSON line per application, written (and optionally forced to disk) before we acknowledge
+    private void append(Entry entry) throws IOException {
+
+        if (segmentChannel == null) {
+            segment = logDir.resolve(SEGMENT_PREFIX + System.currentTimeMillis() + "-" + segmentSequence++ + SEGMENT_SUFFIX);
+            segmentChannel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.APPEND);
+            segmentEntries = 0;
+        }
+
+        ByteBuffer line = ByteBuffer.wrap(
+                (jsonMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            segmentChannel.write(line);
+        }
+        if (fsync) {
+            segmentChannel.force(false);
+        }
+        segmentEntries++;
+    }
+
+    // Closes the current segment; the next append opens a new one
+    private Path sealSegment() throws IOException {
+
+        if (segmentChannel == null) {
+            return null;
+        }
+
+        segmentChannel.close();
+        segmentChannel = null;
+
+        Path sealed = segment;
+        if (segmentEntries == 0) {
+            Files.deleteIfExists(sealed);
+            return null;
+        }
+        return sealed;
+    }
+
+
+    // ==================================================
+    // WRITER
+    // ==================================================
+    @Scheduled(
+            fixedDelayString = "${lwd.apply-ingest.flush-interval-ms:1000}",
+            initialDelayString = "${lwd.apply-ingest.flush-interval-ms:1000}"
+    )
+    public synchronized void flush() {
+
+        List<Entry> batch = new ArrayList<>(retry);
+        retry.clear();
+
+        // a pending retry goes out alone: the queue keeps counting against capacity
+        if (batch.isEmpty()) {
+            drainInto(batch);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int from = 0;
+
+        try {
+            for (; from < batch.size(); from += BATCH_SIZE) {
+                writeOrSplit(batch.subList(from, Math.min(from + BATCH_SIZE, batch.size())));
+            }
+
+            for (Path path : unwrittenSegments) {
+                Files.deleteIfExists(path);
+            }
+            unwrittenSegments.clear();
+
+            lastFlushAt = LocalDateTime.now();
+            lastFlushMillis = System.currentTimeMillis() - start;
+
+        } catch (RuntimeException | IOException ex) {
+            failedFlushes.increment();
+            log.warn("Application flush failed, {} applications will be retried", batch.size() - from, ex);
+
+            // duplicates are skipped: re-sending a partially applied batch is safe
+            retry.addAll(batch.subList(from, batch.size()));
+        }
+
+        retrying = retry.size();
+    }
+
+    // seal + drain together: the sealed segments hold exactly the drained rows
+    private void drainInto(List<Entry> batch) {
+
+        appendLock.lock();
+        try {
+            Path sealed = sealSegment();
+            if (sealed != null) {
+                unwrittenSegments.add(sealed);
+            }
+            queue.drainTo(batch);
+        } catch (IOException ex) {
+            log.error("Application log segment could not be sealed", ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // One refused row rolls back its whole chunk: retry the chunk row by row
+    // so only the rows the database refuses end up in the dead-letter log
+    private void writeOrSplit(List<Entry> chunk) throws IOException {
+        try {
+            write(chunk);
+        } catch (DataIntegrityViolationException ex) {
+            if (chunk.size() == 1) {
+                deadLetter(chunk.get(0), ex);
+                return;
+            }
+            log.warn("Application chunk of {} refused, writing it row by row", chunk.size(), ex);
+            for (Entry entry : chunk) {
+                writeOrSplit(List.of(entry));
+            }
+        }
+    }
+
+    // Applications and their status log rows commit together per chunk
+    private void write(List<Entry> chunk) {
+
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (Entry entry : chunk) {
+            Timestamp appliedAt = Timestamp.from(Instant.ofEpochMilli(entry.appliedAtMillis()));
+            rows.add(new Object[] {
+                    entry.jobId(), entry.jobSeekerId(),
+                    entry.fullName(), entry.email(), entry.phone(),
+                    entry.skills(), entry.coverLetter(), entry.resumeUrl(),
+                    appliedAt, appliedAt
+            });
+        }
+
+        boolean[] created = transactionTemplate.execute(status -> {
+
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+            // only rows that were not there before get logged (and counted)
+            return applicationFunnelService.recordApplied(chunk.stream()
+                    .map(entry -> new ApplicationFunnelService.Applied(
+                            entry.jobId(), entry.companyId(), entry.jobSeekerId()))
+                    .toList());
+        });
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Entry entry = chunk.get(i);
+            pendingKeys.remove(entry.key());
+
+            if (created[i]) {
+                eventPublisher.publishEvent(new JobAppliedEvent(entry.jobId(), entry.jobSeekerId()));
+            }
+        }
+        written.add(chunk.size());
+    }
+
+    // Forced to disk: the client already has its 202
+    private void deadLetter(Entry entry, DataIntegrityViolationException ex) throws IOException {
+
+        String error = ex.getMostSpecificCause().getMessage();
+        byte[] line = (jsonMapper.writeValueAsString(new DeadLetter(entry, error, System.currentTimeMillis())) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(logDir.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        pendingKeys.remove(entry.key());
+        deadLettered.increment();
+        log.error("Application of job seeker {} to job {} refused and dead-lettered: {}",
+                entry.jobSeekerId(), entry.jobId(), error);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+
+    // ==================================================
+    // STARTUP REPLAY
+    // ==================================================
+    // Segments left by a crash or a failed last flush go out with the first flush
+    private void replayLeftoverSegments() throws IOException {
+
+        List<Path> leftovers = new ArrayList<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(logDir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            paths.forEach(leftovers::add);
+        }
+        leftovers.sort(null);
+
+        for (Path path : leftovers) {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Entry entry = jsonMapper.readValue(line, Entry.class);
+                    pendingKeys.add(entry.key());
+                    retry.add(entry);
+                } catch (RuntimeException ex) {
+                    // torn last line of a crashed append: never acknowledged
+                    log.warn("Skipping unreadable line in {}", path.getFileName());
+                }
+            }
+            unwrittenSegments.add(path);
+        }
+
+        retrying = retry.size();
+        if (!retry.isEmpty()) {
+            log.info("Replaying {} logged applications from {} segments", retry.size(), leftovers.size());
+        }
+    }
+
+
+    // ==================================================
+    // METRICS
+    // ==================================================
+    public ApplicationIngestStatsDTO stats() {
+        return ApplicationIngestStatsDTO.builder()
+                .enabled(enabled)
+                .capacity(capacity)
+                .queueDepth(queue.size())
+                .retrying(retrying)
+                .acceptedApplications(accepted.sum())
+                .writtenApplications(written.sum())
+                .rejectedApplications(rejected.sum())
+                .deadLetteredApplications(deadLettered.sum())
+                .failedFlushes(failedFlushes.sum())
+                .lastFlushAt(lastFlushAt)
+                .lastFlushMillis(lastFlushMillis)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.lwd.jobportal.tracking;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.event.JobAppliedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bloom filter over (jobId, jobSeekerId) pairs that have applied, fed by
+ * {@link JobAppliedEvent} after commit.
+ *
+ * "No" is exact, "maybe" is not: a hit only tells the apply path to confirm
+ * with an index lookup before trying the insert, so a false positive costs
+ * one query and never rejects an application. The filter starts empty and
+ * is cleared once it has taken {@code capacity} pairs (its false positive
+ * rate would climb past the target); pairs it forgets simply fall through
+ * to the unique index.
+ */
+@Slf4j
+@Component
+public class AppliedFilter {
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long bitCount;
+    private final int hashCount;
+
+    private volatile AtomicLongArray bits;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    public AppliedFilter(
+            @Value("${lwd.apply-filter.enabled:true}") boolean enabled,
+            @Value("${lwd.apply-filter.capacity:1000000}") int capacity,
+            @Value("${lwd.apply-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+
+    public boolean mightContain(Long jobId, Long jobSeekerId) {
+
+        if (!enabled) {
+            return false;
+        }
+
+        AtomicLongArray current = bits;
+        long hash = hash(jobId, jobSeekerId);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash, i);
+            if ((current.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(Long jobId, Long jobSeekerId) {
+
+        if (!enabled) {
+            return;
+        }
+
+        if (insertions.incrementAndGet() > capacity) {
+            reset();
+        }
+
+        AtomicLongArray current = bits;
+        long hash = hash(jobId, jobSeekerId);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            current.getAndAccumulate(word, mask, (value, m) -> value | m);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobApplied(JobAppliedEvent event) {
+        put(event.getJobId(), event.getJobSeekerId());
+    }
+
+
+    // ================= HELPERS =================
+    private synchronized void reset() {
+        if (insertions.get() > capacity) {
+            bits = new AtomicLongArray((int) (bitCount / 64));
+            insertions.set(1);
+            log.info("Applied filter reached {} pairs and was cleared", capacity);
+        }
+    }
+
+    // Double hashing: bit i = h1 + i * h2 (Kirsch–Mitzenmacher)
+    private long index(long hash, int i) {
+        long h1 = hash >>> 32;
+        long h2 = hash & 0xFFFFFFFFL;
+        return ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash(long jobId, long jobSeekerId) {
+        return mix(mix(jobId) ^ jobSeekerId);
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93e53fe1a85L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,162 @@
+package com.lwd.jobportal.tracking;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.dto.admin.JobAlertStatsDTO;
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.search.SavedSearchPercolator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns newly opened jobs into job_alerts rows.
+ *
+ * Each job that becomes searchable is percolated once against every saved
+ * search ({@link SavedSearchPercolator}); the matches are queued in memory
+ * and written with batched {@code INSERT IGNORE} on a fixed delay and at
+ * shutdown. The (saved search, job) unique key makes a re-opened job or a
+ * retried batch harmless, and each row is inserted from its saved_searches
+ * row, so alerts still queued when their saved search is deleted are
+ * skipped instead of written as orphans.
+ */
+@Slf4j
+@Component
+public class JobAlertQueue {
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO job_alerts (user_id, saved_search_id, job_id, created_at, seen)
+            SELECT s.user_id, s.id, ?, ?, false
+            FROM saved_searches s
+            WHERE s.id = ?
+            """;
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SavedSearchPercolator percolator;
+    private final int maxPending;
+
+    private final ConcurrentLinkedQueue<Object[]> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final LongAdder percolatedJobs = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private volatile LocalDateTime lastFlushAt;
+    private volatile long lastPercolateMicros;
+
+    public JobAlertQueue(
+            JdbcTemplate jdbcTemplate,
+            SavedSearchPercolator percolator,
+            @Value("${lwd.job-alerts.max-pending:100000}") int maxPending
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.percolator = percolator;
+        this.maxPending = maxPending;
+    }
+
+
+    // ==================================================
+    // PERCOLATE (after the job commit)
+    // ==================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+
+        // only jobs that just became visible: created, re-opened, restored
+        if (!event.isSearchable() || event.wasSearchable() || !percolator.isReady()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<SavedSearchPercolator.Match> matches = percolator.percolate(event.getAfter());
+        lastPercolateMicros = (System.nanoTime() - start) / 1_000;
+        percolatedJobs.increment();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (SavedSearchPercolator.Match match : matches) {
+            if (pendingCount.get() >= maxPending) {
+                dropped.increment();
+                continue;
+            }
+            pending.add(new Object[] {event.getJobId(), now, match.savedSearchId()});
+            pendingCount.incrementAndGet();
+        }
+    }
+
+
+    // ==================================================
+    // FLUSH
+    // ==================================================
+    @Scheduled(
+            fixedDelayString = "${lwd.job-alerts.flush-interval-ms:10000}",
+            initialDelayString = "${lwd.job-alerts.flush-interval-ms:10000}"
+    )
+    public synchronized void flush() {
+
+        List<Object[]> rows = new ArrayList<>();
+        Object[] row;
+        while ((row = pending.poll()) != null) {
+            rows.add(row);
+        }
+        pendingCount.addAndGet(-rows.size());
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        int from = 0;
+        try {
+            for (; from < rows.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+            }
+            written.add(rows.size());
+            lastFlushAt = LocalDateTime.now();
+
+        } catch (RuntimeException ex) {
+            failedFlushes.increment();
+            log.warn("Job alert flush failed, {} alerts will be retried", rows.size() - from, ex);
+
+            // INSERT IGNORE: re-sending a partially applied batch is safe
+            List<Object[]> retry = rows.subList(from, rows.size());
+            pending.addAll(retry);
+            pendingCount.addAndGet(retry.size());
+            written.add(from);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+
+    // ==================================================
+    // METRICS
+    // ==================================================
+    public JobAlertStatsDTO stats() {
+        return JobAlertStatsDTO.builder()
+                .savedSearches(percolator.size())
+                .percolatedJobs(percolatedJobs.sum())
+                .pendingAlerts(pendingCount.get())
+                .writtenAlerts(written.sum())
+                .droppedAlerts(dropped.sum())
+                .failedFlushes(failedFlushes.sum())
+                .lastFlushAt(lastFlushAt)
+                .lastPercolateMicros(lastPercolateMicros)
+                .build();
+    }
+}
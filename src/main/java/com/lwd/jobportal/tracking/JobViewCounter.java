@@ -0,0 +1,186 @@
+package com.lwd.jobportal.tracking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lwd.jobportal.dto.admin.ViewCounterStatsDTO;
+import com.lwd.jobportal.event.JobViewedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind counter for Job.viewCount, fed by {@link JobViewedEvent}.
+ *
+ * Views are added to a per-job {@link LongAdder} (striped, no locks on the
+ * request path) and written with batched
+ * {@code UPDATE jobs SET view_count = view_count + ?} on a fixed delay and
+ * once more at shutdown. A failed flush puts its counts back.
+ *
+ * The map is capped; views of jobs that would grow it past the cap are
+ * dropped and counted in {@link #stats()}.
+ */
+@Slf4j
+@Component
+public class JobViewCounter {
+
+    private static final String UPDATE_SQL = "UPDATE jobs SET view_count = view_count + ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPendingJobs;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // ===== guarded by this (flush) =====
+    // Adders removed from the map last flush; a late increment may still land there
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    private final AtomicLong oldestPendingAt = new AtomicLong(0);
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private volatile LocalDateTime lastFlushAt;
+    private volatile long lastFlushMillis;
+
+    public JobViewCounter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${lwd.view-counter.max-pending-jobs:100000}") int maxPendingJobs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPendingJobs = maxPendingJobs;
+    }
+
+
+    // ==================================================
+    // RECORD (request path)
+    // ==================================================
+    @EventListener
+    public void onJobViewed(JobViewedEvent event) {
+        add(event.getJobId(), 1);
+    }
+
+    private void add(Long jobId, long views) {
+
+        LongAdder adder = pending.get(jobId);
+
+        if (adder == null) {
+            if (pending.size() >= maxPendingJobs) {
+                dropped.add(views);
+                return;
+            }
+            adder = pending.computeIfAbsent(jobId, id -> new LongAdder());
+        }
+
+        adder.add(views);
+        oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+    }
+
+
+    // ==================================================
+    // FLUSH
+    // ==================================================
+    @Scheduled(
+            fixedDelayString = "${lwd.view-counter.flush-interval-ms:5000}",
+            initialDelayString = "${lwd.view-counter.flush-interval-ms:5000}"
+    )
+    public synchronized void flush() {
+
+        long start = System.currentTimeMillis();
+        oldestPendingAt.set(0);
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Map.Entry<Long, LongAdder>> idle = new ArrayList<>();
+
+        drain(retired, updates);
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+
+            long views = entry.getValue().sumThenReset();
+
+            if (views > 0) {
+                updates.add(new Object[] {views, entry.getKey()});
+            } else {
+                idle.add(entry);
+            }
+        }
+
+        // Jobs with no views since the last flush leave the map
+        retired = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : idle) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                retired.add(entry);
+            }
+        }
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (int from = 0; from < updates.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates.subList(from, Math.min(from + BATCH_SIZE, updates.size())));
+            }
+            updates.forEach(row -> flushed.add((Long) row[0]));
+
+            lastFlushAt = LocalDateTime.now();
+            lastFlushMillis = System.currentTimeMillis() - start;
+
+        } catch (RuntimeException ex) {
+            failedFlushes.increment();
+            log.warn("Job view flush failed, {} jobs will be retried", updates.size(), ex);
+
+            // put the counts back for the next run
+            // (a partially applied batch may be counted twice)
+            updates.forEach(row -> add((Long) row[1], (Long) row[0]));
+            oldestPendingAt.compareAndSet(0, start);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        // late increments on adders retired by that flush
+        flush();
+    }
+
+    private static void drain(List<Map.Entry<Long, LongAdder>> entries, List<Object[]> updates) {
+        for (Map.Entry<Long, LongAdder> entry : entries) {
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                updates.add(new Object[] {views, entry.getKey()});
+            }
+        }
+    }
+
+
+    // ==================================================
+    // METRICS
+    // ==================================================
+    public ViewCounterStatsDTO stats() {
+
+        long oldest = oldestPendingAt.get();
+
+        return ViewCounterStatsDTO.builder()
+                .pendingJobs(pending.size())
+                .pendingViews(pending.values().stream().mapToLong(LongAdder::sum).sum())
+                .flushedViews(flushed.sum())
+                .droppedViews(dropped.sum())
+                .failedFlushes(failedFlushes.sum())
+                .lastFlushAt(lastFlushAt)
+                .lastFlushMillis(lastFlushMillis)
+                .flushLagMillis(oldest == 0 ? 0 : System.currentTimeMillis() - oldest)
+                .build();
+    }
+}
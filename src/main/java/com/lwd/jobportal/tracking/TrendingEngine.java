@@ -0,0 +1,330 @@
+package com.lwd.jobportal.tracking;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lwd.jobportal.event.JobAppliedEvent;
+import com.lwd.jobportal.event.JobChangedEvent;
+import com.lwd.jobportal.event.JobViewedEvent;
+import com.lwd.jobportal.repository.JobApplicationRepository;
+import com.lwd.jobportal.repository.JobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time-decayed popularity of OPEN jobs.
+ *
+ * score(job) = Σ weight · 2^(-age / halfLife) over its views (weight 1)
+ * and applications (weight {@value #APPLICATION_WEIGHT}).
+ *
+ * Scores are stored relative to a base time (weight · e^(λ·(t - base))),
+ * so an event only touches its own job and the ranking of the others does
+ * not change as time passes. {@link #rebase()} periodically folds the
+ * elapsed decay back in to keep the numbers small.
+ *
+ * Because stored scores only grow, the best K jobs are kept in a bounded
+ * ordered set: a job enters it only when its own score passes the current
+ * K-th. Readers get an immutable id list through a volatile field.
+ *
+ * Views and applications never take the lock: the request thread only adds
+ * the weight to a per-job {@link DoubleAdder}, and a scheduled
+ * {@link #fold()} moves the pending weights into the scores and the top set
+ * (events inside one fold interval count as happening at fold time).
+ *
+ * Seeded at startup from jobs.view_count (spread over each job's lifetime)
+ * and recent job_applications.
+ */
+@Slf4j
+@Component
+public class TrendingEngine {
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double APPLICATION_WEIGHT = 5.0;
+
+    // Below this (in current-time units) a job is forgotten at rebase
+    private static final double MIN_SCORE = 0.01;
+
+    private static final Comparator<Ranked> BEST_FIRST =
+            Comparator.comparingDouble(Ranked::score).reversed()
+                    .thenComparing(Ranked::jobId);
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    private final double lambdaPerHour;
+    private final Duration halfLife;
+    private final int topK;
+
+    // weights recorded since the last fold, lock-free
+    private final Map<Long, DoubleAdder> pending = new ConcurrentHashMap<>();
+
+    // ===== guarded by this =====
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Ranked> top = new TreeSet<>(BEST_FIRST);
+    private final Map<Long, Ranked> topById = new HashMap<>();
+    private long baseMillis = System.currentTimeMillis();
+    private Set<Long> closedWhileLoading;
+
+    private volatile List<Long> topIds = List.of();
+    private volatile boolean ready = false;
+
+    public TrendingEngine(
+            JobRepository jobRepository,
+            JobApplicationRepository jobApplicationRepository,
+            @Value("${lwd.trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${lwd.trending.top-k:10}") int topK
+    ) {
+        this.jobRepository = jobRepository;
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.lambdaPerHour = Math.log(2) / halfLifeHours;
+        this.halfLife = Duration.ofMinutes(Math.round(halfLifeHours * 60));
+        this.topK = topK;
+    }
+
+
+    // ==================================================
+    // LOAD (seed from the database)
+    // ==================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        synchronized (this) {
+            closedWhileLoading = new HashSet<>();
+        }
+
+        Map<Long, Double> seed = new HashMap<>();
+        long now = System.currentTimeMillis();
+
+        try {
+            // all-time views, assumed evenly spread since the job was posted
+            for (Object[] row : jobRepository.findViewCountsOfOpenJobs()) {
+                Long jobId = (Long) row[0];
+                long views = (Long) row[1];
+                double ageHours = Math.max(1.0, hoursBetween(toMillis((LocalDateTime) row[2]), now));
+
+                double decayedViews = views / ageHours * (1 - Math.exp(-lambdaPerHour * ageHours)) / lambdaPerHour;
+                seed.merge(jobId, VIEW_WEIGHT * decayedViews, Double::sum);
+            }
+
+            // applications older than 8 half-lives weigh < 0.4% and are skipped
+            LocalDateTime since = LocalDateTime.now().minus(halfLife.multipliedBy(8));
+
+            for (Object[] row : jobApplicationRepository.findAppliedAtOfOpenJobsSince(since)) {
+                double ageHours = hoursBetween(toMillis((LocalDateTime) row[1]), now);
+                seed.merge((Long) row[0], APPLICATION_WEIGHT * Math.exp(-lambdaPerHour * ageHours), Double::sum);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Trending engine could not be seeded, trending falls back to SQL", ex);
+            synchronized (this) {
+                closedWhileLoading = null;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            // events received while loading are already in `scores`
+            seed.forEach((jobId, score) -> {
+                if (!closedWhileLoading.contains(jobId)) {
+                    add(jobId, score, now);
+                }
+            });
+            closedWhileLoading = null;
+            publishTop();
+            ready = true;
+            log.info("Trending engine seeded with {} jobs", seed.size());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    // ==================================================
+    // EVENTS
+    // ==================================================
+    @EventListener
+    public void onJobViewed(JobViewedEvent event) {
+        if (event.isSearchable()) {
+            record(event.getJobId(), VIEW_WEIGHT);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobApplied(JobAppliedEvent event) {
+        record(event.getJobId(), APPLICATION_WEIGHT);
+    }
+
+    // Closed / deleted jobs leave the ranking
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+
+        if (event.isSearchable()) {
+            return;
+        }
+        if (closedWhileLoading != null) {
+            closedWhileLoading.add(event.getJobId());
+        }
+
+        pending.remove(event.getJobId());
+        scores.remove(event.getJobId());
+
+        Ranked ranked = topById.remove(event.getJobId());
+        if (ranked != null) {
+            top.remove(ranked);
+            refill();
+            publishTop();
+        }
+    }
+
+    private void record(Long jobId, double weight) {
+        pending.computeIfAbsent(jobId, id -> new DoubleAdder()).add(weight);
+    }
+
+
+    // ==================================================
+    // FOLD (off the request thread)
+    // ==================================================
+    @Scheduled(
+            fixedDelayString = "${lwd.trending.fold-interval-ms:5000}",
+            initialDelayString = "${lwd.trending.fold-interval-ms:5000}"
+    )
+    public synchronized void fold() {
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean changed = false;
+
+        for (Long jobId : pending.keySet()) {
+            // a weight added between remove and sum is lost: trending is approximate
+            DoubleAdder weight = pending.remove(jobId);
+            if (weight != null) {
+                changed |= add(jobId, weight.sum(), now);
+            }
+        }
+
+        if (changed) {
+            publishTop();
+        }
+    }
+
+
+    // ==================================================
+    // READ
+    // ==================================================
+    // Best first, at most `limit` ids
+    public List<Long> topJobIds(int limit) {
+        List<Long> ids = topIds;
+        return ids.size() <= limit ? ids : ids.subList(0, limit);
+    }
+
+
+    // ==================================================
+    // REBASE
+    // ==================================================
+    // Folds the decay since the base time into the scores, drops faded jobs
+    @Scheduled(fixedDelayString = "${lwd.trending.rebase-interval-ms:3600000}")
+    public synchronized void rebase() {
+
+        fold();
+
+        long now = System.currentTimeMillis();
+        double factor = Math.exp(-lambdaPerHour * hoursBetween(baseMillis, now));
+
+        scores.replaceAll((jobId, score) -> score * factor);
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        baseMillis = now;
+
+        top.clear();
+        topById.clear();
+        refill();
+        publishTop();
+    }
+
+
+    // ================= HELPERS =================
+    // Returns true when the top set changed
+    private boolean add(Long jobId, double weight, long atMillis) {
+
+        double score = scores.merge(
+                jobId,
+                weight * Math.exp(lambdaPerHour * hoursBetween(baseMillis, atMillis)),
+                Double::sum
+        );
+
+        Ranked current = topById.get(jobId);
+
+        if (current != null) {
+            top.remove(current);
+        } else if (top.size() >= topK) {
+            if (score <= top.last().score()) {
+                return false;
+            }
+            topById.remove(top.pollLast().jobId());
+        }
+
+        Ranked ranked = new Ranked(jobId, score);
+        top.add(ranked);
+        topById.put(jobId, ranked);
+        return true;
+    }
+
+    // Tops the set back up to K from the jobs outside it
+    private void refill() {
+
+        if (top.size() >= topK || scores.size() == top.size()) {
+            return;
+        }
+
+        TreeSet<Ranked> candidates = new TreeSet<>(BEST_FIRST);
+
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (topById.containsKey(entry.getKey())) {
+                continue;
+            }
+            candidates.add(new Ranked(entry.getKey(), entry.getValue()));
+            if (candidates.size() > topK - top.size()) {
+                candidates.pollLast();
+            }
+        }
+
+        for (Ranked ranked : candidates) {
+            top.add(ranked);
+            topById.put(ranked.jobId(), ranked);
+        }
+    }
+
+    private void publishTop() {
+        topIds = top.stream().map(Ranked::jobId).toList();
+    }
+
+    private static double hoursBetween(long fromMillis, long toMillis) {
+        return (toMillis - fromMillis) / 3_600_000d;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Ranked(Long jobId, double score) {}
+}
@@ -0,0 +1,238 @@
+package com.lwd.jobportal.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lwd.jobportal.dto.jobapplicationdto.JobApplicationRequest;
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.entity.JobApplication;
+import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.enums.ApplicationSource;
+import com.lwd.jobportal.enums.ApplicationStatus;
+import com.lwd.jobportal.exception.BadRequestException;
+import com.lwd.jobportal.repository.JobApplicationRepository;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.UserRepository;
+import com.lwd.jobportal.service.JobApplicationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Many applicants hitting one hot job at once: the old apply path (load
+ * job, load user, exists check, insert) vs the lean one (status-only
+ * check, reference proxies, unique-index insert, applied filter).
+ *
+ * Every applicant applies once and then double-clicks twice, all from a
+ * shared thread pool. Duplicates that slip past the old exists check show
+ * up as unhandled integrity violations (HTTP 500s).
+ *
+ * Runs against the throwaway schema of the "benchmark" profile (see
+ * application-benchmark.properties), dropped when the run ends.
+ *   mvn test -Dtest=ApplyPathBenchmark -Dbenchmark=true
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ApplyPathBenchmark {
+
+    private static final int APPLICANTS = 5_000;
+    private static final int CLICKS = 3;
+    private static final int THREADS = 32;
+    private static final int BATCH = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long jobId;
+    private List<Long> applicantIds;
+
+
+    @BeforeEach
+    void seed() {
+        jobId = findOrCreateHotJob();
+        applicantIds = seedApplicants();
+    }
+
+
+    @Test
+    void hotJob() {
+        run("legacy", this::legacyApply);
+        run("lean", (request, applicantId) -> jobApplicationService.applyForJob(request, applicantId));
+    }
+
+
+    // What applyForJob did before: four round trips, exists check outside the index
+    private void legacyApply(JobApplicationRequest request, Long applicantId) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+
+            Job job = jobRepository.findById(request.getJobId()).orElseThrow();
+            User user = userRepository.findById(applicantId).orElseThrow();
+
+            if (jobApplicationRepository.existsByJobIdAndJobSeekerId(job.getId(), user.getId())) {
+                throw new BadRequestException("You have already applied for this job");
+            }
+
+            jobApplicationRepository.save(JobApplication.builder()
+                    .job(job)
+                    .jobSeeker(user)
+                    .applicationSource(ApplicationSource.PORTAL)
+                    .fullName(request.getFullName())
+                    .email(request.getEmail())
+                    .phone(request.getPhone())
+                    .status(ApplicationStatus.APPLIED)
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+        });
+    }
+
+
+    // ================= RUN =================
+    private void run(String label, BiConsumer<JobApplicationRequest, Long> apply) {
+
+        jdbcTemplate.update("DELETE FROM job_applications WHERE job_id = ?", jobId);
+
+        LongAdder accepted = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder errors = new LongAdder();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(APPLICANTS * CLICKS);
+
+        long start = System.nanoTime();
+
+        // clicks of one applicant are interleaved with everyone else's
+        for (int click = 0; click < CLICKS; click++) {
+            for (Long applicantId : applicantIds) {
+                futures.add(pool.submit(() -> {
+                    try {
+                        apply.accept(request(applicantId), applicantId);
+                        accepted.increment();
+                    } catch (BadRequestException ex) {
+                        rejected.increment();
+                    } catch (DataIntegrityViolationException ex) {
+                        errors.increment();
+                    }
+                }));
+            }
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        pool.shutdown();
+
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+        log.info(String.format("%-7s %6d clicks in %9.1f ms (%7.0f/s) | accepted %5d | already applied %5d | 500s %4d",
+                label, futures.size(), millis, futures.size() / (millis / 1000),
+                accepted.sum(), rejected.sum(), errors.sum()));
+    }
+
+    private JobApplicationRequest request(Long applicantId) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setJobId(jobId);
+        request.setFullName("Applicant " + applicantId);
+        request.setEmail("bench-applicant-" + applicantId + "@lwd.test");
+        request.setPhone("9999999999");
+        return request;
+    }
+
+
+    // ================= SEED =================
+    private Long findOrCreateHotJob() {
+
+        String email = "bench-recruiter@lwd.test";
+
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO users (name, email, password, role, status, is_active, locked, created_at)
+                VALUES (?, ?, 'x', 'RECRUITER', 'ACTIVE', true, false, NOW())
+                """, email, email);
+
+        Long recruiterId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+
+        jdbcTemplate.update("""
+                INSERT INTO companies (company_name, is_active, created_by_id, created_at)
+                SELECT 'Bench Corp', true, ?, NOW()
+                WHERE NOT EXISTS (SELECT 1 FROM companies WHERE company_name = 'Bench Corp')
+                """, recruiterId);
+
+        Long companyId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM companies WHERE company_name = 'Bench Corp'", Long.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO jobs (title, description, location, industry, job_type,
+                                  min_experience, max_experience, status,
+                                  company_id, created_by, view_count, deleted, lwd_preferred, created_at)
+                SELECT 'Hot Job', 'Benchmark hot job', 'Pune', 'IT', 'FULL_TIME', 0, 5, 'OPEN',
+                       ?, ?, 0, false, false, NOW()
+                WHERE NOT EXISTS (SELECT 1 FROM jobs WHERE title = 'Hot Job')
+                """, companyId, recruiterId);
+
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM jobs WHERE title = 'Hot Job'", Long.class);
+    }
+
+    private List<Long> seedApplicants() {
+
+        List<Object[]> users = new ArrayList<>(BATCH);
+
+        for (int i = 0; i < APPLICANTS; i++) {
+
+            String email = "bench-applicant-" + i + "@lwd.test";
+            users.add(new Object[] {email, email});
+
+            if (users.size() == BATCH) {
+                insertApplicants(users);
+                users.clear();
+            }
+        }
+        insertApplicants(users);
+
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'bench-applicant-%' ORDER BY id LIMIT ?",
+                Long.class, APPLICANTS);
+    }
+
+    private void insertApplicants(List<Object[]> users) {
+        jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO users (name, email, password, role, status, is_active, locked, created_at)
+                VALUES (?, ?, 'x', 'JOB_SEEKER', 'ACTIVE', true, false, NOW())
+                """, users);
+    }
+}
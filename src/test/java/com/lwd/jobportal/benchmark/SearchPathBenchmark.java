@@ -0,0 +1,263 @@
+package com.lwd.jobportal.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lwd.jobportal.entity.Job;
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.repository.IdSliceRepository;
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+import com.lwd.jobportal.specification.JobSeekerSpecification;
+import com.lwd.jobportal.specification.JobSpecification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single-query (DISTINCT + fetch joins) vs "ids then hydrate" for the
+ * public job feed and candidate search, at 100k jobs / 100k profiles.
+ *
+ * Runs against the throwaway schema of the "benchmark" profile (see
+ * application-benchmark.properties, BENCHMARK_DB_* to point it elsewhere),
+ * which is created for the run and dropped afterwards.
+ *   mvn test -Dtest=SearchPathBenchmark -Dbenchmark=true
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SearchPathBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH = 1_000;
+    private static final int RUNS = 20;
+    private static final int[] PAGES = {0, 100, 2_000};
+
+    private static final String[] LOCATIONS = {"Pune", "Mumbai", "Bengaluru", "Hyderabad", "Chennai", "Delhi"};
+    private static final String[] INDUSTRIES = {"IT", "Finance", "Healthcare", "Retail", "Manufacturing"};
+    private static final String[] JOB_TYPES = {"FULL_TIME", "PART_TIME", "INTERNSHIP", "CONTRACT", "REMOTE"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private IdSliceRepository idSliceRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobSeekerRepository jobSeekerRepository;
+
+
+    @BeforeEach
+    void seed() {
+        seedJobs();
+        seedJobSeekers();
+    }
+
+
+    @Test
+    void publicJobFeed() {
+
+        // what publicJobs() used to do for entity queries
+        Specification<Job> legacy = JobSpecification.publicJobs().and((root, query, cb) -> {
+            query.distinct(true);
+            return null;
+        });
+        Specification<Job> spec = JobSpecification.publicJobs();
+
+        for (int page : PAGES) {
+
+            Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            report("jobs page " + page, () -> jobRepository.findBy(legacy, q -> q.slice(pageable)).getContent(),
+                    () -> jobRepository.findCardsByIdIn(
+                            idSliceRepository.findIdSlice(Job.class, spec, pageable).getContent()));
+        }
+    }
+
+
+    @Test
+    void candidateSearch() {
+
+        Specification<JobSeeker> spec = JobSeekerSpecification.searchJobSeekers(
+                null, null, "pune", null, 2, null, null, null, null, null, null, null
+        );
+
+        for (int page : PAGES) {
+
+            Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "totalExperience"));
+
+            report("candidates page " + page, () -> jobSeekerRepository.findBy(spec, q -> q.slice(pageable)).getContent(),
+                    () -> jobSeekerRepository.findByIdIn(
+                            idSliceRepository.findIdSlice(JobSeeker.class, spec, pageable).getContent()));
+        }
+    }
+
+
+    // ================= TIMING =================
+    private void report(String label, Supplier<List<?>> singleQuery, Supplier<List<?>> twoPhase) {
+
+        double single = medianMillis(singleQuery);
+        double split = medianMillis(twoPhase);
+
+        log.info(String.format("%-22s single-query %8.2f ms | ids+hydrate %8.2f ms", label, single, split));
+    }
+
+    private double medianMillis(Supplier<List<?>> run) {
+
+        // warm up
+        for (int i = 0; i < 3; i++) {
+            transactionTemplate.execute(status -> run.get());
+        }
+
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> run.get());
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(nanos);
+        return nanos[RUNS / 2] / 1_000_000.0;
+    }
+
+
+    // ================= SEED =================
+    private void seedJobs() {
+
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM jobs", Long.class);
+        if (existing != null && existing >= ROWS) {
+            return;
+        }
+
+        Long recruiterId = findOrCreateRecruiter();
+        Long companyId = findOrCreateCompany(recruiterId);
+
+        String description = "Benchmark job description. ".repeat(80);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> rows = new ArrayList<>(BATCH);
+
+        for (long i = existing; i < ROWS; i++) {
+
+            int min = (int) (i % 12);
+
+            rows.add(new Object[] {
+                    "Engineer " + i,
+                    description,
+                    LOCATIONS[(int) (i % LOCATIONS.length)],
+                    INDUSTRIES[(int) (i % INDUSTRIES.length)],
+                    JOB_TYPES[(int) (i % JOB_TYPES.length)],
+                    min,
+                    min + 3,
+                    i % 10 == 0 ? "CLOSED" : "OPEN",
+                    companyId,
+                    recruiterId,
+                    Timestamp.valueOf(now.minusMinutes(ROWS - i))
+            });
+
+            if (rows.size() == BATCH) {
+                insertJobs(rows);
+                rows.clear();
+            }
+        }
+        insertJobs(rows);
+    }
+
+    private void insertJobs(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO jobs (title, description, location, industry, job_type,
+                                  min_experience, max_experience, status,
+                                  company_id, created_by, view_count, deleted, lwd_preferred, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false, false, ?)
+                """, rows);
+    }
+
+    private void seedJobSeekers() {
+
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_seeker_profiles", Long.class);
+        if (existing != null && existing >= ROWS) {
+            return;
+        }
+
+        List<Object[]> users = new ArrayList<>(BATCH);
+
+        for (long i = existing; i < ROWS; i++) {
+
+            String email = "bench-seeker-" + i + "@lwd.test";
+            users.add(new Object[] {email, email});
+
+            if (users.size() == BATCH) {
+                insertSeekers(users);
+                users.clear();
+            }
+        }
+        insertSeekers(users);
+    }
+
+    private void insertSeekers(List<Object[]> users) {
+
+        jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO users (name, email, password, role, status, is_active, locked, created_at)
+                VALUES (?, ?, 'x', 'JOB_SEEKER', 'ACTIVE', true, false, NOW())
+                """, users);
+
+        jdbcTemplate.update("""
+                INSERT INTO job_seeker_profiles (user_id, total_experience, current_location,
+                                                 expected_ctc, notice_period, immediate_joiner)
+                SELECT u.id, u.id % 20,
+                       ELT(1 + u.id % 6, 'Pune', 'Mumbai', 'Bengaluru', 'Hyderabad', 'Chennai', 'Delhi'),
+                       300000 + (u.id % 50) * 50000, (u.id % 4) * 30, u.id % 4 = 0
+                FROM users u
+                LEFT JOIN job_seeker_profiles p ON p.user_id = u.id
+                WHERE u.email LIKE 'bench-seeker-%'
+                AND p.id IS NULL
+                """);
+    }
+
+    private Long findOrCreateRecruiter() {
+
+        String email = "bench-recruiter@lwd.test";
+
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO users (name, email, password, role, status, is_active, locked, created_at)
+                VALUES (?, ?, 'x', 'RECRUITER', 'ACTIVE', true, false, NOW())
+                """, email, email);
+
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    private Long findOrCreateCompany(Long recruiterId) {
+
+        jdbcTemplate.update("""
+                INSERT INTO companies (company_name, is_active, created_by_id, created_at)
+                SELECT 'Bench Corp', true, ?, NOW()
+                WHERE NOT EXISTS (SELECT 1 FROM companies WHERE company_name = 'Bench Corp')
+                """, recruiterId);
+
+        return jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM companies WHERE company_name = 'Bench Corp'", Long.class);
+    }
+}
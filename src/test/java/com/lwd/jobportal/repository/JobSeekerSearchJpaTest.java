@@ -0,0 +1,177 @@
+package com.lwd.jobportal.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.Skill;
+import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.enums.Role;
+import com.lwd.jobportal.enums.UserStatus;
+import com.lwd.jobportal.exception.InvalidOperationException;
+import com.lwd.jobportal.specification.JobSeekerSpecification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+
+/**
+ * Keyword + skills candidate search against a real (embedded) database,
+ * with hibernate.query.fail_on_pagination_over_collection_fetch on as in
+ * application.properties: a collection fetch on a paged query, however it
+ * is added (specification, entity graph), throws here instead of logging
+ * HHH90003004 and paging in memory.
+ */
+@DataJpaTest
+@Import(IdSliceRepository.class)
+class JobSeekerSearchJpaTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IdSliceRepository idSliceRepository;
+
+    @Autowired
+    private JobSeekerRepository jobSeekerRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+
+    @BeforeEach
+    void seed() {
+
+        Skill java = skill("Java");
+        Skill spring = skill("Spring");
+        Skill react = skill("React");
+
+        profile("Asha", "Pune", 6, Set.of(java, spring));
+        profile("Ravi", "Pune", 4, Set.of(java));
+        profile("Meera", "Mumbai", 3, Set.of(java, react));
+        profile("Kiran", "Pune", 8, Set.of(react));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    void keywordAndSkillsSearchPagesIdsThenHydrates() {
+
+        Specification<JobSeeker> spec = search("java", List.of("Java", "Spring"));
+        Pageable firstPage = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "totalExperience"));
+
+        Slice<Long> ids = idSliceRepository.findIdSlice(JobSeeker.class, spec, firstPage);
+
+        assertThat(ids.hasNext()).isTrue();
+
+        List<JobSeeker> page = jobSeekerRepository.findByIdIn(ids.getContent());
+        assertThat(page).extracting(seeker -> seeker.getUser().getName())
+                .containsExactlyInAnyOrder("Asha", "Ravi");
+
+        List<Object[]> skillNames = skillRepository.findSkillNamesByUserIdIn(
+                page.stream().map(seeker -> seeker.getUser().getId()).toList());
+        assertThat(skillNames).extracting(row -> row[1])
+                .containsExactlyInAnyOrder("Java", "Spring", "Java");
+
+        Slice<Long> rest = idSliceRepository.findIdSlice(JobSeeker.class, spec, firstPage.next());
+        assertThat(rest.getContent()).hasSize(1);
+        assertThat(rest.hasNext()).isFalse();
+    }
+
+    @Test
+    void pagedEntitySearchRunsWithoutCollectionFetch() {
+
+        Page<JobSeeker> page = jobSeekerRepository.findAll(
+                search("java", List.of("Java", "Spring")),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "totalExperience"))
+        );
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(seeker -> seeker.getUser().getName())
+                .containsExactly("Asha", "Ravi");
+    }
+
+    @Test
+    void collectionFetchOnPagedSearchFails() {
+
+        Specification<JobSeeker> withSkillsFetch = search("java", List.of("Java")).and((root, query, cb) -> {
+            if (query.getResultType() == JobSeeker.class) {
+                root.fetch("skills", JoinType.LEFT);
+            }
+            return null;
+        });
+
+        assertThatThrownBy(() -> jobSeekerRepository.findAll(withSkillsFetch, PageRequest.of(0, 2)))
+                .hasMessageContaining("fail_on_pagination_over_collection_fetch");
+    }
+
+    @Test
+    void sortsByNestedPropertyAndRejectsUnknownOnes() {
+
+        Specification<JobSeeker> spec = search("java", List.of("Java"));
+
+        Slice<Long> ids = idSliceRepository.findIdSlice(
+                JobSeeker.class, spec, PageRequest.of(0, 5, Sort.by("user.name")));
+
+        assertThat(ids.getContent()).extracting(this::nameOf)
+                .containsExactly("Asha", "Meera", "Ravi");
+
+        assertThatThrownBy(() -> idSliceRepository.findIdSlice(
+                JobSeeker.class, spec, PageRequest.of(0, 5, Sort.by("user.nope"))))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+
+    // ================= HELPERS =================
+    private static Specification<JobSeeker> search(String keyword, List<String> skills) {
+        return JobSeekerSpecification.searchJobSeekers(
+                keyword, skills, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private String nameOf(Long id) {
+        return jobSeekerRepository.findById(id).orElseThrow().getUser().getName();
+    }
+
+    private Skill skill(String name) {
+        Skill skill = new Skill();
+        skill.setName(name);
+        entityManager.persist(skill);
+        return skill;
+    }
+
+    private void profile(String name, String location, int experience, Set<Skill> skills) {
+
+        User user = User.builder()
+                .name(name)
+                .email(name.toLowerCase() + "@lwd.test")
+                .password("x")
+                .role(Role.JOB_SEEKER)
+                .status(UserStatus.ACTIVE)
+                .isActive(true)
+                .build();
+        entityManager.persist(user);
+
+        JobSeeker seeker = new JobSeeker();
+        seeker.setUser(user);
+        seeker.setCurrentLocation(location);
+        seeker.setTotalExperience(experience);
+        seeker.setSkills(skills);
+        entityManager.persist(seeker);
+    }
+}
@@ -0,0 +1,76 @@
+package com.lwd.jobportal.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.lwd.jobportal.enums.JobStatus;
+import com.lwd.jobportal.enums.JobType;
+
+/**
+ * Profile recommendations score every ordinal of the segment, so segments
+ * much larger than the requested page must rank and page correctly.
+ */
+class JobSearchIndexRecommendTest {
+
+    private static final int JOBS = 50;
+
+    @Test
+    void segmentLargerThanPage() {
+
+        JobSearchIndex.Segment segment = JobSearchIndex.Segment.of(jobs());
+
+        JobProfileQuery query = JobProfileQuery.builder()
+                .keywordToken("java", 1.0)
+                .locationToken("pune", 2.0)
+                .excludedJobIds(Set.of())
+                .build();
+
+        JobSearchResult first = segment.recommend(query, 0, 5);
+        JobSearchResult second = segment.recommend(query, 1, 5);
+
+        // every job matches "java"; the Pune ones score higher
+        assertThat(first.getTotalElements()).isEqualTo(JOBS);
+        assertThat(first.getIds()).hasSize(5);
+        assertThat(first.getIds()).allMatch(id -> id % 2 == 0);
+        assertThat(second.getIds()).hasSize(5).doesNotContainAnyElementsOf(first.getIds());
+    }
+
+    @Test
+    void excludedJobsAreNotRecommended() {
+
+        JobSearchIndex.Segment segment = JobSearchIndex.Segment.of(jobs());
+
+        JobProfileQuery query = JobProfileQuery.builder()
+                .locationToken("pune", 1.0)
+                .excludedJobIds(Set.of(2L, 4L))
+                .build();
+
+        JobSearchResult result = segment.recommend(query, 0, 3);
+
+        assertThat(result.getTotalElements()).isEqualTo(JOBS / 2 - 2);
+        assertThat(result.getIds()).hasSize(3).doesNotContain(2L, 4L);
+    }
+
+
+    private static List<JobDocument> jobs() {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<JobDocument> jobs = new ArrayList<>(JOBS);
+
+        for (long id = 1; id <= JOBS; id++) {
+            jobs.add(new JobDocument(
+                    id, "Java Developer " + id, id % 2 == 0 ? "Pune" : "Mumbai", "IT",
+                    1L, "Acme", JobType.FULL_TIME, 0, 5,
+                    null, null, false,
+                    JobStatus.OPEN, false, now.minusMinutes(JOBS - id)
+            ));
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,113 @@
+package com.lwd.jobportal.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.lwd.jobportal.repository.JobRepository;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Candidate ranking for a job over 100k synthetic profiles, in memory
+ * (repositories mocked): the whole scan must stay well under 100 ms.
+ */
+@Slf4j
+class SkillMatchIndexTest {
+
+    private static final int PROFILES = 100_000;
+    private static final int JOBS = 1_000;
+    private static final int SKILLS = 500;
+    private static final int SKILLS_PER_PROFILE = 8;
+    private static final int RUNS = 21;
+    private static final long TARGET_MILLIS = 100;
+
+    // job 1 asks for skills 1..5 (+ 6..10 nice to have); profile 1 has all ten
+    private static final long JOB_ID = 1L;
+    private static final long BEST_PROFILE_ID = 1L;
+
+    private SkillMatchIndex index;
+
+
+    @BeforeEach
+    void load() {
+
+        Random random = new Random(42);
+
+        List<Object[]> jobSkills = new ArrayList<>();
+        for (long jobId = 1; jobId <= JOBS; jobId++) {
+            for (int i = 0; i < 10; i++) {
+                long skillId = jobId == JOB_ID ? i + 1 : 1 + random.nextInt(SKILLS);
+                jobSkills.add(new Object[] {jobId, skillId, i < 5});
+            }
+        }
+
+        List<Object[]> profileSkills = new ArrayList<>(PROFILES * SKILLS_PER_PROFILE);
+        for (long profileId = 1; profileId <= PROFILES; profileId++) {
+            int count = profileId == BEST_PROFILE_ID ? 10 : SKILLS_PER_PROFILE;
+            for (int i = 0; i < count; i++) {
+                long skillId = profileId == BEST_PROFILE_ID ? i + 1 : 11 + random.nextInt(SKILLS - 10);
+                profileSkills.add(new Object[] {profileId, skillId});
+            }
+        }
+
+        JobRepository jobRepository = mock(JobRepository.class);
+        JobSeekerRepository jobSeekerRepository = mock(JobSeekerRepository.class);
+        when(jobRepository.findSkillIdsOfOpenJobs()).thenReturn(jobSkills);
+        when(jobSeekerRepository.findAllSkillIds()).thenReturn(profileSkills);
+
+        index = new SkillMatchIndex(jobRepository, jobSeekerRepository);
+        index.load();
+    }
+
+
+    @Test
+    void rankCandidatesOver100kProfiles() {
+
+        // warm up
+        for (int i = 0; i < 5; i++) {
+            index.rankCandidates(JOB_ID, 0, 20);
+        }
+
+        long[] nanos = new long[RUNS];
+        SkillMatchResult result = null;
+
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            result = index.rankCandidates(JOB_ID, 0, 20);
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(nanos);
+        double medianMillis = nanos[RUNS / 2] / 1_000_000.0;
+        log.info(String.format("rankCandidates over %d profiles: median %.2f ms", PROFILES, medianMillis));
+
+        assertThat(result.getMatches()).isNotEmpty();
+        assertThat(result.getMatches().get(0).getId()).isEqualTo(BEST_PROFILE_ID);
+        assertThat(medianMillis).isLessThan(TARGET_MILLIS);
+    }
+
+    @Test
+    void deepPageIsBoundedByIndexSize() {
+
+        SkillMatchResult result = index.rankCandidates(JOB_ID, Integer.MAX_VALUE / 2, Integer.MAX_VALUE);
+
+        assertThat(result.getMatches()).isEmpty();
+        assertThat(result.getTotalElements()).isPositive();
+
+        assertThatThrownBy(() -> index.rankCandidates(JOB_ID, -1, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.rankCandidates(JOB_ID, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,146 @@
+package com.lwd.jobportal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.lwd.jobportal.cache.CountCache;
+import com.lwd.jobportal.dto.comman.PagedResponse;
+import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchRequest;
+import com.lwd.jobportal.dto.jobseekerdto.JobSeekerSearchResponse;
+import com.lwd.jobportal.entity.JobSeeker;
+import com.lwd.jobportal.entity.User;
+import com.lwd.jobportal.repository.IdSliceRepository;
+import com.lwd.jobportal.repository.JobSeekerRepository;
+import com.lwd.jobportal.repository.SkillRepository;
+import com.lwd.jobportal.search.CandidateSearchIndex;
+import com.lwd.jobportal.specification.JobSeekerSpecification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Guards against HHH90003004 ("firstResult/maxResults specified with
+ * collection fetch; applying in memory") in recruiter candidate search.
+ *
+ * Hibernate logs that warning whenever a paged entity query fetch-joins a
+ * collection, so these tests fail if the specification fetch-joins skills
+ * again or if the search stops paging ids and bulk loading skill names.
+ * Collection fetches added any other way are caught against a real
+ * database by JobSeekerSearchJpaTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobSeekerSearchPaginationTest {
+
+    @Mock
+    private JobSeekerRepository jobSeekerRepository;
+
+    @Mock
+    private IdSliceRepository idSliceRepository;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private CandidateSearchIndex candidateSearchIndex;
+
+    @Mock
+    private CountCache countCache;
+
+    @InjectMocks
+    private JobSeekerService jobSeekerService;
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void specificationNeverFetchJoinsSkillsForEntityQueries() {
+
+        Specification<JobSeeker> spec = JobSeekerSpecification.searchJobSeekers(
+                "java", List.of("Spring"), null, null, null, null, null, null, null, null, null, null
+        );
+
+        Root<JobSeeker> root = mock(Root.class, RETURNS_MOCKS);
+        CriteriaQuery<JobSeeker> query = mock(CriteriaQuery.class, RETURNS_MOCKS);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+
+        when(query.getResultType()).thenReturn(JobSeeker.class);
+
+        spec.toPredicate(root, query, cb);
+
+        // to-one fetch is fine, a collection fetch is what triggers in-memory paging
+        verify(root).fetch("user", JoinType.LEFT);
+        verify(root, never()).fetch(eq("skills"), any(JoinType.class));
+        verify(root, never()).fetch(eq("skills"));
+    }
+
+
+    @Test
+    void searchPagesIdsAndBulkLoadsSkillNames() {
+
+        JobSeekerSearchRequest request = JobSeekerSearchRequest.builder()
+                .keyword("java")
+                .skills(List.of("Spring"))
+                .page(2)
+                .size(2)
+                .includeTotal(false)
+                .sortBy("totalExperience")
+                .sortDirection("DESC")
+                .build();
+
+        when(idSliceRepository.findIdSlice(eq(JobSeeker.class), any(), any(Pageable.class)))
+                .thenAnswer(invocation -> new SliceImpl<>(List.of(7L, 3L), invocation.getArgument(2), true));
+
+        when(jobSeekerRepository.findByIdIn(anyCollection()))
+                .thenReturn(List.of(profile(3L, 30L), profile(7L, 70L)));
+
+        when(skillRepository.findSkillNamesByUserIdIn(anyCollection()))
+                .thenReturn(List.of(
+                        new Object[] {70L, "Java"},
+                        new Object[] {70L, "Spring"},
+                        new Object[] {30L, "Spring"}
+                ));
+
+        PagedResponse<JobSeekerSearchResponse> response = jobSeekerService.searchJobSeekers(request);
+
+        assertThat(response.getContent())
+                .extracting(JobSeekerSearchResponse::getId)
+                .containsExactly(7L, 3L);
+        assertThat(response.getContent().get(0).getSkills()).containsExactly("Java", "Spring");
+        assertThat(response.getContent().get(1).getSkills()).containsExactly("Spring");
+
+        // one skill query for the page's users, never a paged entity query
+        verify(skillRepository).findSkillNamesByUserIdIn(argThat(ids -> Set.copyOf(ids).equals(Set.of(30L, 70L))));
+        verify(jobSeekerRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verify(countCache, never()).get(anyString(), anyString(), any());
+    }
+
+
+    private static JobSeeker profile(Long id, Long userId) {
+        return JobSeeker.builder()
+                .id(id)
+                .user(User.builder().id(userId).name("Seeker " + id).build())
+                .build();
+    }
+}